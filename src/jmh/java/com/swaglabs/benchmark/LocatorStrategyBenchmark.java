@@ -0,0 +1,83 @@
+package com.swaglabs.benchmark;
+
+import com.swaglabs.core.pages.LocatorCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-lookup cost of the page objects' XPath locators versus their compiled ID/CSS form in headless Chrome
+ * Runs against a local copy of the SwagLabs markup, so it needs Chrome but no network:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="LocatorStrategyBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocatorStrategyBenchmark {
+
+    @Param({
+            "//div[@class='inventory_item_name ']",
+            "//div[@class='inventory_item_price']",
+            "//div[@class='pricebar']//button",
+            "//div[@id='shopping_cart_container']/a",
+            "//*[@id='checkout']",
+            "//div[@class='checkout_info']//input",
+            "//input[@type='submit']",
+            "//h2[@class='complete-header']"
+    })
+    private String xpath;
+
+    private WebDriver driver;
+    private By original;
+    private By compiled;
+
+    @Setup
+    public void setUp() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage");
+        driver = new ChromeDriver(options);
+        driver.get(getClass().getResource("/swaglabs/pages.html").toString());
+
+        original = By.xpath(xpath);
+        compiled = LocatorCompiler.compile(original);
+        int expected = driver.findElements(original).size();
+        if (expected == 0 || driver.findElements(compiled).size() != expected) {
+            throw new IllegalStateException("Compiled locator " + compiled + " does not match " + original);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public List<WebElement> xpathLookup() {
+        return driver.findElements(original);
+    }
+
+    @Benchmark
+    public List<WebElement> compiledLookup() {
+        return driver.findElements(compiled);
+    }
+}
@@ -0,0 +1,84 @@
+package com.swaglabs.benchmark;
+
+import com.swaglabs.core.pages.PriceList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Price sort check and total over catalogues of different sizes, boxed list-and-sort versus PriceList
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PriceParsingBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PriceParsingBenchmark {
+
+    @Param({"6", "100", "10000"})
+    private int catalogueSize;
+
+    private List<String> priceTexts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        double[] prices = new double[catalogueSize];
+        for (int i = 0; i < catalogueSize; i++) {
+            prices[i] = (random.nextInt(100_000) + 1) / 100.0;
+        }
+        Arrays.sort(prices);
+        priceTexts = new ArrayList<>(catalogueSize);
+        for (double price : prices) {
+            priceTexts.add(String.format("$%.2f", price));
+        }
+    }
+
+    @Benchmark
+    public boolean boxedSortCheck() {
+        List<Double> prices = new ArrayList<>();
+        for (String text : priceTexts) {
+            prices.add(Double.parseDouble(text.replace("$", "").trim()));
+        }
+        List<Double> sortedPrices = new ArrayList<>(prices);
+        Collections.sort(sortedPrices);
+        return prices.equals(sortedPrices);
+    }
+
+    @Benchmark
+    public boolean priceListSortCheck() {
+        return PriceList.parse(priceTexts).isSortedAscending();
+    }
+
+    @Benchmark
+    public double boxedTotal() {
+        double total = 0.0;
+        for (String text : priceTexts) {
+            total += Double.parseDouble(text.replace("$", "").trim());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal priceListTotal() {
+        return PriceList.parse(priceTexts).total();
+    }
+}
@@ -0,0 +1,119 @@
+package com.swaglabs.benchmark;
+
+import com.swaglabs.core.utils.ScreenshotEncoder;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.OutputType;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side capture (base64 decode of the driver's PNG) plus encoding, per screenshot mode and captured area
+ * Encoded bytes per image are printed at setup. Run with:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ScreenshotEncodingBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ScreenshotEncodingBenchmark {
+
+    private static final int WINDOW_WIDTH = 1920;
+    private static final int WINDOW_HEIGHT = 1080;
+
+    // format-quality-scale[-gray]
+    @Param({"png-100-1.0", "png-100-0.5", "jpeg-80-1.0", "jpeg-80-0.5", "jpeg-60-0.5-gray", "webp-80-1.0"})
+    private String mode;
+
+    @Param({"window", "element"})
+    private String area;
+
+    private String base64Capture;
+    private ScreenshotEncoder encoder;
+
+    @Setup
+    public void setUp() throws IOException {
+        Configurator.setLevel("com.swaglabs", Level.ERROR);
+        String[] parts = mode.split("-");
+        encoder = new ScreenshotEncoder(parts[0], Integer.parseInt(parts[1]) / 100.0, Double.parseDouble(parts[2]),
+                parts.length > 3 && "gray".equals(parts[3]));
+
+        BufferedImage page = renderPage();
+        // An element capture is what WebElement.getScreenshotAs returns for one inventory card
+        BufferedImage captured = "element".equals(area) ? page.getSubimage(40, 140, 421, 421) : page;
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(captured, "png", png);
+        base64Capture = Base64.getEncoder().encodeToString(png.toByteArray());
+
+        byte[] encoded = captureAndEncode();
+        System.out.printf("%n%s %s (%s): %d bytes captured, %d bytes encoded%n", mode, area, encoder,
+                png.size(), encoded.length);
+    }
+
+    @Benchmark
+    public byte[] captureAndEncode() throws IOException {
+        return encoder.encode(OutputType.BYTES.convertFromBase64Png(base64Capture));
+    }
+
+    /**
+     * Inventory-like page: header, product cards with a photo gradient, text and buttons
+     */
+    private static BufferedImage renderPage() {
+        BufferedImage page = new BufferedImage(WINDOW_WIDTH, WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = page.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+        graphics.setColor(new Color(0x13, 0x2d, 0x3d));
+        graphics.fillRect(0, 0, WINDOW_WIDTH, 100);
+        graphics.setColor(Color.WHITE);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 32));
+        graphics.drawString("Swag Labs", 860, 60);
+
+        Random random = new Random(42);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 16));
+        for (int card = 0; card < 8; card++) {
+            int x = 40 + (card % 4) * 460;
+            int y = 140 + (card / 4) * 460;
+            graphics.setColor(new Color(0xe0, 0xe0, 0xe0));
+            graphics.drawRect(x, y, 420, 420);
+            graphics.setPaint(new GradientPaint(x, y, new Color(random.nextInt(0xffffff)),
+                    x + 200, y + 240, new Color(random.nextInt(0xffffff))));
+            graphics.fillRect(x + 10, y + 10, 200, 240);
+            graphics.setColor(Color.DARK_GRAY);
+            for (int line = 0; line < 6; line++) {
+                graphics.drawString("Sauce Labs product description line " + line, x + 10, y + 280 + line * 20);
+            }
+            graphics.setColor(new Color(0x3d, 0xdc, 0x91));
+            graphics.fillRoundRect(x + 260, y + 370, 140, 36, 8, 8);
+            graphics.setColor(Color.BLACK);
+            graphics.drawString("$" + (random.nextInt(5000) / 100.0), x + 10, y + 395);
+        }
+        graphics.dispose();
+        return page;
+    }
+}
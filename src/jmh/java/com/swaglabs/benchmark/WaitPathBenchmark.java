@@ -0,0 +1,101 @@
+package com.swaglabs.benchmark;
+
+import com.swaglabs.core.wait.SmartWait;
+import com.swaglabs.core.wait.WaitCondition;
+import com.swaglabs.core.wait.WaitFactory;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cost of one satisfied explicit wait against a stub driver, per-call allocation versus the session WaitFactory
+ * Run with the gc profiler to compare bytes allocated per wait: mvn -Pbenchmark test-compile exec:exec
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WaitPathBenchmark {
+
+    private static final int TIMEOUT_SECONDS = 10;
+    private static final Function<WebDriver, Boolean> READY = webDriver -> Boolean.TRUE;
+
+    private WebDriver driver;
+    private WaitCondition visible;
+
+    @Setup
+    public void setUp() {
+        // Debug logging of every wait goes to the log files and would dominate the measurement
+        Configurator.setLevel("com.swaglabs", Level.INFO);
+        driver = stubDriver();
+        visible = WaitCondition.visible("element");
+    }
+
+    @TearDown
+    public void tearDown() {
+        WaitFactory.detach(driver);
+    }
+
+    @Benchmark
+    public Boolean webDriverWaitPerCall() {
+        return new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT_SECONDS)).until(READY);
+    }
+
+    @Benchmark
+    public Boolean smartWaitPerCall() {
+        return new SmartWait(driver, Duration.ofSeconds(TIMEOUT_SECONDS)).until(READY);
+    }
+
+    @Benchmark
+    public Boolean cachedWait() {
+        return WaitFactory.forDriver(driver).withTimeout(TIMEOUT_SECONDS).until(READY);
+    }
+
+    @Benchmark
+    public void cachedWaitBrowserCondition() {
+        WaitFactory.forDriver(driver).withTimeout(TIMEOUT_SECONDS).untilAll(visible);
+    }
+
+    /**
+     * Driver whose scripts report every condition as satisfied and whose other calls do nothing
+     */
+    private static WebDriver stubDriver() {
+        return (WebDriver) Proxy.newProxyInstance(WaitPathBenchmark.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeScript":
+                            return Collections.singletonList(Boolean.TRUE);
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "StubDriver";
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
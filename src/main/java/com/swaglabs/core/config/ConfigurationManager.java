@@ -1,182 +1,540 @@
-package com.swaglabs.core.config;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
-
-/**
- * Enterprise-level configuration management system
- * Supports multiple environments and provides type-safe configuration access
- */
-public class ConfigurationManager {
-    private static final Logger logger = LogManager.getLogger(ConfigurationManager.class);
-    private static ConfigurationManager instance;
-    private Properties properties;
-    private EnvironmentConfig environmentConfig;
-    
-    private ConfigurationManager() {
-        loadConfiguration();
-    }
-    
-    public static synchronized ConfigurationManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigurationManager();
-        }
-        return instance;
-    }
-    
-    private void loadConfiguration() {
-        try {
-            String environment = System.getProperty("env", "qa");
-            logger.info("Loading configuration for environment: {}", environment);
-            
-            // Load environment-specific configuration
-            loadEnvironmentConfig(environment);
-            
-            // Load properties file
-            loadProperties();
-            
-        } catch (Exception e) {
-            logger.error("Failed to load configuration", e);
-            throw new RuntimeException("Configuration loading failed", e);
-        }
-    }
-    
-    private void loadEnvironmentConfig(String environment) {
-        try {
-            String configFile = String.format("config/environment-%s.yml", environment);
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(configFile);
-            
-            if (inputStream == null) {
-                logger.warn("Environment config file not found: {}. Using default configuration.", configFile);
-                environmentConfig = new EnvironmentConfig();
-                return;
-            }
-            
-            ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
-            environmentConfig = mapper.readValue(inputStream, EnvironmentConfig.class);
-            logger.info("Environment configuration loaded successfully for: {}", environment);
-            
-        } catch (IOException e) {
-            logger.error("Failed to load environment configuration", e);
-            environmentConfig = new EnvironmentConfig();
-        }
-    }
-    
-    private void loadProperties() {
-        properties = new Properties();
-        try {
-            String propertiesFile = "config/testdata.properties";
-            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(propertiesFile);
-            
-            if (inputStream != null) {
-                properties.load(inputStream);
-                logger.info("Properties file loaded successfully");
-            } else {
-                logger.warn("Properties file not found: {}", propertiesFile);
-            }
-        } catch (IOException e) {
-            logger.error("Failed to load properties file", e);
-        }
-    }
-    
-    // Environment-specific getters
-    public String getBaseUrl() {
-        return environmentConfig.getBaseUrl();
-    }
-    
-    public String getBrowser() {
-        return System.getProperty("browser", environmentConfig.getBrowser());
-    }
-    
-    public boolean isHeadless() {
-        return Boolean.parseBoolean(System.getProperty("headless", 
-            String.valueOf(environmentConfig.isHeadless())));
-    }
-    
-    public int getImplicitWait() {
-        return environmentConfig.getImplicitWait();
-    }
-    
-    public int getExplicitWait() {
-        return environmentConfig.getExplicitWait();
-    }
-    
-    public int getPageLoadTimeout() {
-        return environmentConfig.getPageLoadTimeout();
-    }
-    
-    public String getScreenshotPath() {
-        return environmentConfig.getScreenshotPath();
-    }
-    
-    public boolean isParallelExecution() {
-        return Boolean.parseBoolean(System.getProperty("parallel", 
-            String.valueOf(environmentConfig.isParallelExecution())));
-    }
-    
-    public int getThreadCount() {
-        return Integer.parseInt(System.getProperty("threadCount", 
-            String.valueOf(environmentConfig.getThreadCount())));
-    }
-    
-    // Properties getters
-    public String getProperty(String key) {
-        return properties.getProperty(key);
-    }
-    
-    public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
-    }
-    
-    public int getIntProperty(String key, int defaultValue) {
-        try {
-            return Integer.parseInt(properties.getProperty(key));
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid integer property: {}. Using default: {}", key, defaultValue);
-            return defaultValue;
-        }
-    }
-    
-    public boolean getBooleanProperty(String key, boolean defaultValue) {
-        return Boolean.parseBoolean(properties.getProperty(key, String.valueOf(defaultValue)));
-    }
-    
-    // Test data specific getters
-    public String getFilterOptionLowToHigh() {
-        return getProperty("filter.option.low.to.high", "lohi");
-    }
-    
-    public String getFirstName() {
-        return getProperty("input.first.name", "Test");
-    }
-    
-    public String getLastName() {
-        return getProperty("input.last.name", "User");
-    }
-    
-    public String getPincode() {
-        return getProperty("input.pincode", "12345");
-    }
-    
-    public String getExpectedCartHeader() {
-        return getProperty("header.cart.page", "Your Cart");
-    }
-    
-    public String getExpectedOrderConfirmation() {
-        return getProperty("header.order.confirmation", "THANK YOU FOR YOUR ORDER");
-    }
-    public boolean isScreenshotOnFailureEnabled() {
-        return Boolean.parseBoolean(
-                properties.getProperty("screenshot.on.failure", "true")
-        );
-    }
-
+package com.swaglabs.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.swaglabs.core.driver.NetworkProfile;
+import com.swaglabs.core.driver.PerformanceProfile;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.PageLoadStrategy;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Enterprise-level configuration management system
+ * Supports multiple environments and provides type-safe configuration access
+ */
+public class ConfigurationManager {
+    private static final Logger logger = LogManager.getLogger(ConfigurationManager.class);
+    private static ConfigurationManager instance;
+    private Properties properties;
+    private EnvironmentConfig environmentConfig;
+    
+    private ConfigurationManager() {
+        loadConfiguration();
+    }
+    
+    public static synchronized ConfigurationManager getInstance() {
+        if (instance == null) {
+            instance = new ConfigurationManager();
+        }
+        return instance;
+    }
+    
+    private void loadConfiguration() {
+        try {
+            String environment = System.getProperty("env", "qa");
+            logger.info("Loading configuration for environment: {}", environment);
+            
+            // Load environment-specific configuration
+            loadEnvironmentConfig(environment);
+            
+            // Load properties file
+            loadProperties();
+            
+        } catch (Exception e) {
+            logger.error("Failed to load configuration", e);
+            throw new RuntimeException("Configuration loading failed", e);
+        }
+    }
+    
+    private void loadEnvironmentConfig(String environment) {
+        try {
+            String configFile = String.format("config/environment-%s.yml", environment);
+            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(configFile);
+            
+            if (inputStream == null) {
+                logger.warn("Environment config file not found: {}. Using default configuration.", configFile);
+                environmentConfig = new EnvironmentConfig();
+                return;
+            }
+            
+            ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+            environmentConfig = mapper.readValue(inputStream, EnvironmentConfig.class);
+            logger.info("Environment configuration loaded successfully for: {}", environment);
+            
+        } catch (IOException e) {
+            logger.error("Failed to load environment configuration", e);
+            environmentConfig = new EnvironmentConfig();
+        }
+    }
+    
+    private void loadProperties() {
+        properties = new Properties();
+        try {
+            String propertiesFile = "config/testdata.properties";
+            InputStream inputStream = getClass().getClassLoader().getResourceAsStream(propertiesFile);
+            
+            if (inputStream != null) {
+                properties.load(inputStream);
+                logger.info("Properties file loaded successfully");
+            } else {
+                logger.warn("Properties file not found: {}", propertiesFile);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to load properties file", e);
+        }
+    }
+    
+    // Environment-specific getters
+    public String getBaseUrl() {
+        return environmentConfig.getBaseUrl();
+    }
+    
+    public String getBrowser() {
+        return System.getProperty("browser", environmentConfig.getBrowser());
+    }
+    
+    public boolean isHeadless() {
+        return Boolean.parseBoolean(System.getProperty("headless", 
+            String.valueOf(environmentConfig.isHeadless())));
+    }
+    
+    /**
+     * Kept for existing configs; sessions run with implicit waits disabled and rely on explicit waits
+     */
+    public int getImplicitWait() {
+        return environmentConfig.getImplicitWait();
+    }
+    
+    public int getExplicitWait() {
+        return environmentConfig.getExplicitWait();
+    }
+    
+    public int getPageLoadTimeout() {
+        return environmentConfig.getPageLoadTimeout();
+    }
+    
+    /**
+     * Page-load strategy from the environment, or null to keep the performance profile's default
+     */
+    public PageLoadStrategy getPageLoadStrategy() {
+        String strategy = System.getProperty("pageLoadStrategy", environmentConfig.getPageLoadStrategy());
+        if (strategy == null || strategy.trim().isEmpty()) {
+            return null;
+        }
+        return PageLoadStrategy.fromString(strategy.trim().toLowerCase());
+    }
+    
+    public NetworkProfile getNetworkProfile() {
+        return NetworkProfile.fromString(System.getProperty("networkProfile", 
+            environmentConfig.getNetworkProfile()));
+    }
+    
+    public long getNetworkLatencyMillis() {
+        return environmentConfig.getNetworkLatencyMillis();
+    }
+    
+    public long getNetworkDownloadKbps() {
+        return environmentConfig.getNetworkDownloadKbps();
+    }
+    
+    public long getNetworkUploadKbps() {
+        return environmentConfig.getNetworkUploadKbps();
+    }
+    
+    public List<String> getBlockedUrlPatterns() {
+        List<String> patterns = environmentConfig.getBlockedUrlPatterns();
+        return patterns == null ? Collections.emptyList() : patterns;
+    }
+    
+    public String getScreenshotPath() {
+        return environmentConfig.getScreenshotPath();
+    }
+    
+    /**
+     * Screenshots that may wait for a writer before the drop policy applies
+     */
+    public int getScreenshotQueueCapacity() {
+        return environmentConfig.getScreenshotQueueCapacity();
+    }
+    
+    public int getScreenshotWriterThreads() {
+        return environmentConfig.getScreenshotWriterThreads();
+    }
+    
+    /**
+     * What a full screenshot queue does: block, drop-newest or drop-oldest
+     */
+    public String getScreenshotDropPolicy() {
+        return System.getProperty("screenshotDropPolicy", environmentConfig.getScreenshotDropPolicy());
+    }
+    
+    /**
+     * Whether identical screenshots are stored once under their content hash
+     */
+    public boolean isScreenshotDeduplication() {
+        return Boolean.parseBoolean(System.getProperty("screenshotDeduplication",
+            String.valueOf(environmentConfig.isScreenshotDeduplication())));
+    }
+    
+    /**
+     * Maximum perceptual-hash distance (0-64 bits) at which a screenshot reuses a stored one; 0 keeps exact matches only
+     */
+    public int getScreenshotNearDuplicateDistance() {
+        return Integer.parseInt(System.getProperty("screenshotNearDuplicateDistance",
+            String.valueOf(environmentConfig.getScreenshotNearDuplicateDistance())));
+    }
+    
+    /**
+     * Encoding of stored screenshots: png, jpeg or webp (webp needs an ImageIO plugin, otherwise jpeg is used)
+     */
+    public String getScreenshotFormat() {
+        return System.getProperty("screenshotFormat", environmentConfig.getScreenshotFormat());
+    }
+    
+    /**
+     * Compression quality of lossy formats, from 0.0 to 1.0
+     */
+    public double getScreenshotQuality() {
+        return Double.parseDouble(System.getProperty("screenshotQuality",
+            String.valueOf(environmentConfig.getScreenshotQuality())));
+    }
+    
+    /**
+     * Factor applied to screenshot width and height before encoding; 1.0 keeps the captured resolution
+     */
+    public double getScreenshotScale() {
+        return Double.parseDouble(System.getProperty("screenshotScale",
+            String.valueOf(environmentConfig.getScreenshotScale())));
+    }
+    
+    public boolean isScreenshotGrayscale() {
+        return Boolean.parseBoolean(System.getProperty("screenshotGrayscale",
+            String.valueOf(environmentConfig.isScreenshotGrayscale())));
+    }
+    
+    /**
+     * Screenshots not written or reused for this many days are deleted as new ones arrive; 0 keeps them
+     */
+    public int getScreenshotRetentionDays() {
+        return environmentConfig.getScreenshotRetentionDays();
+    }
+    
+    /**
+     * Byte budget of the screenshot directory in megabytes, least recently used files go first; 0 is unlimited
+     */
+    public int getScreenshotMaxDirectoryMb() {
+        return Integer.parseInt(System.getProperty("screenshotMaxDirectoryMb",
+            String.valueOf(environmentConfig.getScreenshotMaxDirectoryMb())));
+    }
+    
+    /**
+     * How often the screenshot index is checked against the files on disk; 0 only rebuilds a missing index
+     */
+    public int getScreenshotReconcileIntervalMinutes() {
+        return environmentConfig.getScreenshotReconcileIntervalMinutes();
+    }
+    
+    /**
+     * Whether Chromium sessions keep a screencast of the last seconds, saved as a video when a test fails
+     */
+    public boolean isVideoRecordingEnabled() {
+        return Boolean.parseBoolean(System.getProperty("enableVideoRecording",
+            String.valueOf(environmentConfig.isEnableVideoRecording())));
+    }
+    
+    /**
+     * Seconds of screencast kept in memory per session
+     */
+    public int getVideoBufferSeconds() {
+        return environmentConfig.getVideoBufferSeconds();
+    }
+    
+    /**
+     * Memory cap of one session's screencast buffer in megabytes; the oldest frames are dropped first
+     */
+    public int getVideoBufferMb() {
+        return environmentConfig.getVideoBufferMb();
+    }
+    
+    /**
+     * JPEG quality, 0-100, of the frames the browser sends
+     */
+    public int getVideoFrameQuality() {
+        return environmentConfig.getVideoFrameQuality();
+    }
+    
+    public int getVideoMaxWidth() {
+        return environmentConfig.getVideoMaxWidth();
+    }
+    
+    public int getVideoMaxHeight() {
+        return environmentConfig.getVideoMaxHeight();
+    }
+    
+    public boolean isParallelExecution() {
+        return Boolean.parseBoolean(System.getProperty("parallel", 
+            String.valueOf(environmentConfig.isParallelExecution())));
+    }
+    
+    public int getThreadCount() {
+        return Integer.parseInt(System.getProperty("threadCount", 
+            String.valueOf(environmentConfig.getThreadCount())));
+    }
+    
+    public PerformanceProfile getPerformanceProfile() {
+        return PerformanceProfile.fromString(System.getProperty("performanceProfile", 
+            environmentConfig.getPerformanceProfile()));
+    }
+    
+    public String getGridUrl() {
+        return System.getProperty("gridUrl", environmentConfig.getGridUrl());
+    }
+    
+    public String getRemoteBrowser() {
+        return System.getProperty("remoteBrowser", environmentConfig.getRemoteBrowser());
+    }
+    
+    public int getGridMaxConnections() {
+        return environmentConfig.getGridMaxConnections();
+    }
+    
+    public int getGridConnectTimeout() {
+        return environmentConfig.getGridConnectTimeout();
+    }
+    
+    public int getGridReadTimeout() {
+        return environmentConfig.getGridReadTimeout();
+    }
+    
+    public int getGridSessionRetries() {
+        return environmentConfig.getGridSessionRetries();
+    }
+    
+    public long getGridRetryBackoffMillis() {
+        return environmentConfig.getGridRetryBackoffMillis();
+    }
+    
+    /**
+     * Attempts per page interaction, first attempt included: the environment's retryCount retries after it
+     */
+    public int getRetryMaxAttempts() {
+        return environmentConfig.getRetryCount() + 1;
+    }
+    
+    /**
+     * Base delay between retries of a page interaction; the actual delay is jittered and grows per retry
+     */
+    public long getRetryBackoffMillis() {
+        return environmentConfig.getRetryBackoffMillis();
+    }
+    
+    public long getRetryMaxBackoffMillis() {
+        return environmentConfig.getRetryMaxBackoffMillis();
+    }
+    
+    public boolean isDriverPoolEnabled() {
+        return Boolean.parseBoolean(System.getProperty("driverPool", 
+            String.valueOf(environmentConfig.isDriverPoolEnabled())));
+    }
+    
+    public int getDriverPoolMinIdle() {
+        return environmentConfig.getDriverPoolMinIdle();
+    }
+    
+    public int getDriverPoolMaxTotal() {
+        return Integer.parseInt(System.getProperty("driverPoolMaxTotal", 
+            String.valueOf(environmentConfig.getDriverPoolMaxTotal())));
+    }
+    
+    public int getDriverPoolMaxUses() {
+        return environmentConfig.getDriverPoolMaxUses();
+    }
+    
+    /**
+     * Browsers whose driver binaries are resolved at suite start (always includes the active browser)
+     */
+    public Set<String> getDriverBrowsers() {
+        Set<String> browsers = new LinkedHashSet<>();
+        browsers.add(getBrowser().toLowerCase());
+        if (environmentConfig.getDriverBrowsers() != null) {
+            environmentConfig.getDriverBrowsers().forEach(browser -> browsers.add(browser.toLowerCase()));
+        }
+        return browsers;
+    }
+    
+    public boolean isDriverBinaryOffline() {
+        return Boolean.parseBoolean(System.getProperty("driverOffline", 
+            String.valueOf(environmentConfig.isDriverBinaryOffline())));
+    }
+    
+    public String getDriverCachePath() {
+        return System.getProperty("driverCachePath", environmentConfig.getDriverCachePath());
+    }
+    
+    public int getSessionIdleTtlSeconds() {
+        return Integer.parseInt(System.getProperty("sessionIdleTtl",
+            String.valueOf(environmentConfig.getSessionIdleTtlSeconds())));
+    }
+    
+    public int getSessionReaperIntervalSeconds() {
+        return environmentConfig.getSessionReaperIntervalSeconds();
+    }
+    
+    public boolean isResourceMonitorEnabled() {
+        return Boolean.parseBoolean(System.getProperty("resourceMonitor",
+            String.valueOf(environmentConfig.isResourceMonitorEnabled())));
+    }
+    
+    public long getResourceSampleIntervalMillis() {
+        return environmentConfig.getResourceSampleIntervalMillis();
+    }
+    
+    /**
+     * Resident memory (MB) of a session's process tree above which it is recycled, 0 to disable
+     */
+    public int getSessionMemoryCeilingMb() {
+        return Integer.parseInt(System.getProperty("sessionMemoryCeilingMb",
+            String.valueOf(environmentConfig.getSessionMemoryCeilingMb())));
+    }
+    
+    public boolean isAutoscaleThreads() {
+        return Boolean.parseBoolean(System.getProperty("autoscaleThreads", 
+            String.valueOf(environmentConfig.isAutoscaleThreads())));
+    }
+    
+    public int getAutoscaleMinThreads() {
+        return environmentConfig.getAutoscaleMinThreads();
+    }
+    
+    public int getAutoscaleMaxThreads() {
+        return Integer.parseInt(System.getProperty("autoscaleMaxThreads", 
+            String.valueOf(environmentConfig.getAutoscaleMaxThreads())));
+    }
+    
+    /**
+     * Memory assumed per browser session until the resource monitor has observed real usage
+     */
+    public int getAutoscaleSessionMemoryMb() {
+        return environmentConfig.getAutoscaleSessionMemoryMb();
+    }
+    
+    /**
+     * p95 WebDriver command latency above which the autoscaler removes a session slot
+     */
+    public long getAutoscaleLatencyP95Millis() {
+        return environmentConfig.getAutoscaleLatencyP95Millis();
+    }
+    
+    public int getAutoscaleIntervalSeconds() {
+        return environmentConfig.getAutoscaleIntervalSeconds();
+    }
+    
+    /**
+     * First polling interval of explicit waits; later polls back off by the multiplier up to the maximum
+     */
+    public long getWaitPollInitialMillis() {
+        return environmentConfig.getWaitPollInitialMillis();
+    }
+    
+    public long getWaitPollMaxMillis() {
+        return environmentConfig.getWaitPollMaxMillis();
+    }
+    
+    public double getWaitPollMultiplier() {
+        return environmentConfig.getWaitPollMultiplier();
+    }
+    
+    /**
+     * How long the DOM and network must stay idle before a page counts as ready
+     */
+    public long getPageQuietMillis() {
+        return Long.parseLong(System.getProperty("pageQuietMillis",
+            String.valueOf(environmentConfig.getPageQuietMillis())));
+    }
+    
+    /**
+     * Whether simple XPath locators of page fields are rewritten to ID/CSS selectors
+     */
+    public boolean isCompileLocators() {
+        return Boolean.parseBoolean(System.getProperty("compileLocators",
+            String.valueOf(environmentConfig.isCompileLocators())));
+    }
+    
+    /**
+     * Whether page action batches are flushed in one call instead of step by step
+     */
+    public boolean isBatchActions() {
+        return Boolean.parseBoolean(System.getProperty("batchActions",
+            String.valueOf(environmentConfig.isBatchActions())));
+    }
+    
+    /**
+     * How batches are flushed: "script" (one executeScript) or "actions" (one W3C Actions chain)
+     */
+    public String getActionBatchMode() {
+        return System.getProperty("actionBatchMode", environmentConfig.getActionBatchMode());
+    }
+    
+    // Properties getters
+    public String getProperty(String key) {
+        return properties.getProperty(key);
+    }
+    
+    public String getProperty(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+    
+    public int getIntProperty(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(properties.getProperty(key));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid integer property: {}. Using default: {}", key, defaultValue);
+            return defaultValue;
+        }
+    }
+    
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(properties.getProperty(key, String.valueOf(defaultValue)));
+    }
+    
+    // Test data specific getters
+    public String getFilterOptionLowToHigh() {
+        return getProperty("filter.option.low.to.high", "lohi");
+    }
+    
+    public String getFirstName() {
+        return getProperty("input.first.name", "Test");
+    }
+    
+    public String getLastName() {
+        return getProperty("input.last.name", "User");
+    }
+    
+    public String getPincode() {
+        return getProperty("input.pincode", "12345");
+    }
+    
+    public String getExpectedCartHeader() {
+        return getProperty("header.cart.page", "Your Cart");
+    }
+    
+    public String getExpectedOrderConfirmation() {
+        return getProperty("header.order.confirmation", "THANK YOU FOR YOUR ORDER");
+    }
+    public boolean isScreenshotOnFailureEnabled() {
+        return Boolean.parseBoolean(
+                properties.getProperty("screenshot.on.failure", "true")
+        );
+    }
+
 } 
\ No newline at end of file
@@ -1,188 +1,875 @@
-package com.swaglabs.core.config;
-
-import com.fasterxml.jackson.annotation.JsonProperty;
-
-/**
- * Environment configuration model
- * Represents environment-specific settings for the automation framework
- */
-public class EnvironmentConfig {
-    
-    @JsonProperty("baseUrl")
-    private String baseUrl = "https://www.saucedemo.com/v1/index.html";
-    
-    @JsonProperty("browser")
-    private String browser = "chrome";
-    
-    @JsonProperty("headless")
-    private boolean headless = false;
-    
-    @JsonProperty("implicitWait")
-    private int implicitWait = 10;
-    
-    @JsonProperty("explicitWait")
-    private int explicitWait = 15;
-    
-    @JsonProperty("pageLoadTimeout")
-    private int pageLoadTimeout = 30;
-    
-    @JsonProperty("screenshotPath")
-    private String screenshotPath = "screenshots";
-    
-    @JsonProperty("parallelExecution")
-    private boolean parallelExecution = false;
-    
-    @JsonProperty("threadCount")
-    private int threadCount = 4;
-    
-    @JsonProperty("retryCount")
-    private int retryCount = 2;
-    
-    @JsonProperty("gridUrl")
-    private String gridUrl = "http://localhost:4444/wd/hub";
-    
-    @JsonProperty("enableVideoRecording")
-    private boolean enableVideoRecording = false;
-    
-    @JsonProperty("enableScreenshotOnFailure")
-    private boolean enableScreenshotOnFailure = true;
-    
-    @JsonProperty("enableScreenshotOnSuccess")
-    private boolean enableScreenshotOnSuccess = false;
-    
-    // Default constructor
-    public EnvironmentConfig() {}
-    
-    // Getters and Setters
-    public String getBaseUrl() {
-        return baseUrl;
-    }
-    
-    public void setBaseUrl(String baseUrl) {
-        this.baseUrl = baseUrl;
-    }
-    
-    public String getBrowser() {
-        return browser;
-    }
-    
-    public void setBrowser(String browser) {
-        this.browser = browser;
-    }
-    
-    public boolean isHeadless() {
-        return headless;
-    }
-    
-    public void setHeadless(boolean headless) {
-        this.headless = headless;
-    }
-    
-    public int getImplicitWait() {
-        return implicitWait;
-    }
-    
-    public void setImplicitWait(int implicitWait) {
-        this.implicitWait = implicitWait;
-    }
-    
-    public int getExplicitWait() {
-        return explicitWait;
-    }
-    
-    public void setExplicitWait(int explicitWait) {
-        this.explicitWait = explicitWait;
-    }
-    
-    public int getPageLoadTimeout() {
-        return pageLoadTimeout;
-    }
-    
-    public void setPageLoadTimeout(int pageLoadTimeout) {
-        this.pageLoadTimeout = pageLoadTimeout;
-    }
-    
-    public String getScreenshotPath() {
-        return screenshotPath;
-    }
-    
-    public void setScreenshotPath(String screenshotPath) {
-        this.screenshotPath = screenshotPath;
-    }
-    
-    public boolean isParallelExecution() {
-        return parallelExecution;
-    }
-    
-    public void setParallelExecution(boolean parallelExecution) {
-        this.parallelExecution = parallelExecution;
-    }
-    
-    public int getThreadCount() {
-        return threadCount;
-    }
-    
-    public void setThreadCount(int threadCount) {
-        this.threadCount = threadCount;
-    }
-    
-    public int getRetryCount() {
-        return retryCount;
-    }
-    
-    public void setRetryCount(int retryCount) {
-        this.retryCount = retryCount;
-    }
-    
-    public String getGridUrl() {
-        return gridUrl;
-    }
-    
-    public void setGridUrl(String gridUrl) {
-        this.gridUrl = gridUrl;
-    }
-    
-    public boolean isEnableVideoRecording() {
-        return enableVideoRecording;
-    }
-    
-    public void setEnableVideoRecording(boolean enableVideoRecording) {
-        this.enableVideoRecording = enableVideoRecording;
-    }
-    
-    public boolean isEnableScreenshotOnFailure() {
-        return enableScreenshotOnFailure;
-    }
-    
-    public void setEnableScreenshotOnFailure(boolean enableScreenshotOnFailure) {
-        this.enableScreenshotOnFailure = enableScreenshotOnFailure;
-    }
-    
-    public boolean isEnableScreenshotOnSuccess() {
-        return enableScreenshotOnSuccess;
-    }
-    
-    public void setEnableScreenshotOnSuccess(boolean enableScreenshotOnSuccess) {
-        this.enableScreenshotOnSuccess = enableScreenshotOnSuccess;
-    }
-    
-    @Override
-    public String toString() {
-        return "EnvironmentConfig{" +
-                "baseUrl='" + baseUrl + '\'' +
-                ", browser='" + browser + '\'' +
-                ", headless=" + headless +
-                ", implicitWait=" + implicitWait +
-                ", explicitWait=" + explicitWait +
-                ", pageLoadTimeout=" + pageLoadTimeout +
-                ", screenshotPath='" + screenshotPath + '\'' +
-                ", parallelExecution=" + parallelExecution +
-                ", threadCount=" + threadCount +
-                ", retryCount=" + retryCount +
-                ", gridUrl='" + gridUrl + '\'' +
-                ", enableVideoRecording=" + enableVideoRecording +
-                ", enableScreenshotOnFailure=" + enableScreenshotOnFailure +
-                ", enableScreenshotOnSuccess=" + enableScreenshotOnSuccess +
-                '}';
-    }
+package com.swaglabs.core.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Environment configuration model
+ * Represents environment-specific settings for the automation framework
+ */
+public class EnvironmentConfig {
+    
+    @JsonProperty("baseUrl")
+    private String baseUrl = "https://www.saucedemo.com/v1/index.html";
+    
+    @JsonProperty("browser")
+    private String browser = "chrome";
+    
+    @JsonProperty("headless")
+    private boolean headless = false;
+    
+    @JsonProperty("implicitWait")
+    private int implicitWait = 10;
+    
+    @JsonProperty("explicitWait")
+    private int explicitWait = 15;
+    
+    @JsonProperty("pageLoadTimeout")
+    private int pageLoadTimeout = 30;
+    
+    @JsonProperty("pageLoadStrategy")
+    private String pageLoadStrategy;
+    
+    @JsonProperty("networkProfile")
+    private String networkProfile = "none";
+    
+    @JsonProperty("networkLatencyMillis")
+    private long networkLatencyMillis = 0;
+    
+    @JsonProperty("networkDownloadKbps")
+    private long networkDownloadKbps = -1;
+    
+    @JsonProperty("networkUploadKbps")
+    private long networkUploadKbps = -1;
+    
+    @JsonProperty("blockedUrlPatterns")
+    private List<String> blockedUrlPatterns = new ArrayList<>();
+    
+    @JsonProperty("screenshotPath")
+    private String screenshotPath = "screenshots";
+    
+    @JsonProperty("parallelExecution")
+    private boolean parallelExecution = false;
+    
+    @JsonProperty("threadCount")
+    private int threadCount = 4;
+    
+    @JsonProperty("retryCount")
+    private int retryCount = 2;
+    
+    @JsonProperty("gridUrl")
+    private String gridUrl = "http://localhost:4444/wd/hub";
+    
+    @JsonProperty("performanceProfile")
+    private String performanceProfile = "default";
+    
+    @JsonProperty("remoteBrowser")
+    private String remoteBrowser = "chrome";
+    
+    @JsonProperty("gridMaxConnections")
+    private int gridMaxConnections = 8;
+    
+    @JsonProperty("gridConnectTimeout")
+    private int gridConnectTimeout = 10;
+    
+    @JsonProperty("gridReadTimeout")
+    private int gridReadTimeout = 180;
+    
+    @JsonProperty("gridSessionRetries")
+    private int gridSessionRetries = 3;
+    
+    @JsonProperty("gridRetryBackoffMillis")
+    private long gridRetryBackoffMillis = 1000;
+    
+    @JsonProperty("enableVideoRecording")
+    private boolean enableVideoRecording = false;
+    
+    @JsonProperty("enableScreenshotOnFailure")
+    private boolean enableScreenshotOnFailure = true;
+    
+    @JsonProperty("enableScreenshotOnSuccess")
+    private boolean enableScreenshotOnSuccess = false;
+    
+    @JsonProperty("driverPoolEnabled")
+    private boolean driverPoolEnabled = false;
+    
+    @JsonProperty("driverPoolMinIdle")
+    private int driverPoolMinIdle = 1;
+    
+    @JsonProperty("driverPoolMaxTotal")
+    private int driverPoolMaxTotal = 4;
+    
+    @JsonProperty("driverPoolMaxUses")
+    private int driverPoolMaxUses = 20;
+    
+    @JsonProperty("driverBrowsers")
+    private List<String> driverBrowsers = new ArrayList<>();
+    
+    @JsonProperty("driverBinaryOffline")
+    private boolean driverBinaryOffline = false;
+    
+    @JsonProperty("driverCachePath")
+    private String driverCachePath;
+    
+    @JsonProperty("sessionIdleTtlSeconds")
+    private int sessionIdleTtlSeconds = 900;
+    
+    @JsonProperty("sessionReaperIntervalSeconds")
+    private int sessionReaperIntervalSeconds = 30;
+    
+    @JsonProperty("resourceMonitorEnabled")
+    private boolean resourceMonitorEnabled = true;
+    
+    @JsonProperty("resourceSampleIntervalMillis")
+    private long resourceSampleIntervalMillis = 1000;
+    
+    @JsonProperty("sessionMemoryCeilingMb")
+    private int sessionMemoryCeilingMb = 0;
+    
+    @JsonProperty("autoscaleThreads")
+    private boolean autoscaleThreads = false;
+    
+    @JsonProperty("autoscaleMinThreads")
+    private int autoscaleMinThreads = 1;
+    
+    @JsonProperty("autoscaleMaxThreads")
+    private int autoscaleMaxThreads = 8;
+    
+    @JsonProperty("autoscaleSessionMemoryMb")
+    private int autoscaleSessionMemoryMb = 512;
+    
+    @JsonProperty("autoscaleLatencyP95Millis")
+    private long autoscaleLatencyP95Millis = 1500;
+    
+    @JsonProperty("autoscaleIntervalSeconds")
+    private int autoscaleIntervalSeconds = 15;
+    
+    @JsonProperty("waitPollInitialMillis")
+    private long waitPollInitialMillis = 50;
+    
+    @JsonProperty("waitPollMaxMillis")
+    private long waitPollMaxMillis = 500;
+    
+    @JsonProperty("waitPollMultiplier")
+    private double waitPollMultiplier = 1.5;
+    
+    @JsonProperty("compileLocators")
+    private boolean compileLocators = true;
+    
+    @JsonProperty("batchActions")
+    private boolean batchActions = false;
+    
+    @JsonProperty("actionBatchMode")
+    private String actionBatchMode = "script";
+    
+    @JsonProperty("retryBackoffMillis")
+    private long retryBackoffMillis = 100;
+    
+    @JsonProperty("retryMaxBackoffMillis")
+    private long retryMaxBackoffMillis = 1000;
+    
+    @JsonProperty("pageQuietMillis")
+    private long pageQuietMillis = 200;
+    
+    @JsonProperty("screenshotQueueCapacity")
+    private int screenshotQueueCapacity = 32;
+    
+    @JsonProperty("screenshotWriterThreads")
+    private int screenshotWriterThreads = 2;
+    
+    @JsonProperty("screenshotDropPolicy")
+    private String screenshotDropPolicy = "drop-oldest";
+    
+    @JsonProperty("screenshotDeduplication")
+    private boolean screenshotDeduplication = true;
+    
+    @JsonProperty("screenshotNearDuplicateDistance")
+    private int screenshotNearDuplicateDistance = 0;
+    
+    @JsonProperty("screenshotFormat")
+    private String screenshotFormat = "png";
+    
+    @JsonProperty("screenshotQuality")
+    private double screenshotQuality = 0.8;
+    
+    @JsonProperty("screenshotScale")
+    private double screenshotScale = 1.0;
+    
+    @JsonProperty("screenshotGrayscale")
+    private boolean screenshotGrayscale = false;
+    
+    @JsonProperty("screenshotRetentionDays")
+    private int screenshotRetentionDays = 7;
+    
+    @JsonProperty("screenshotMaxDirectoryMb")
+    private int screenshotMaxDirectoryMb = 0;
+    
+    @JsonProperty("screenshotReconcileIntervalMinutes")
+    private int screenshotReconcileIntervalMinutes = 1440;
+    
+    @JsonProperty("videoBufferSeconds")
+    private int videoBufferSeconds = 30;
+    
+    @JsonProperty("videoBufferMb")
+    private int videoBufferMb = 64;
+    
+    @JsonProperty("videoFrameQuality")
+    private int videoFrameQuality = 60;
+    
+    @JsonProperty("videoMaxWidth")
+    private int videoMaxWidth = 1280;
+    
+    @JsonProperty("videoMaxHeight")
+    private int videoMaxHeight = 720;
+    
+    // Default constructor
+    public EnvironmentConfig() {}
+    
+    // Getters and Setters
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+    
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+    
+    public String getBrowser() {
+        return browser;
+    }
+    
+    public void setBrowser(String browser) {
+        this.browser = browser;
+    }
+    
+    public boolean isHeadless() {
+        return headless;
+    }
+    
+    public void setHeadless(boolean headless) {
+        this.headless = headless;
+    }
+    
+    public int getImplicitWait() {
+        return implicitWait;
+    }
+    
+    public void setImplicitWait(int implicitWait) {
+        this.implicitWait = implicitWait;
+    }
+    
+    public int getExplicitWait() {
+        return explicitWait;
+    }
+    
+    public void setExplicitWait(int explicitWait) {
+        this.explicitWait = explicitWait;
+    }
+    
+    public int getPageLoadTimeout() {
+        return pageLoadTimeout;
+    }
+    
+    public void setPageLoadTimeout(int pageLoadTimeout) {
+        this.pageLoadTimeout = pageLoadTimeout;
+    }
+    
+    public String getPageLoadStrategy() {
+        return pageLoadStrategy;
+    }
+    
+    public void setPageLoadStrategy(String pageLoadStrategy) {
+        this.pageLoadStrategy = pageLoadStrategy;
+    }
+    
+    public String getNetworkProfile() {
+        return networkProfile;
+    }
+    
+    public void setNetworkProfile(String networkProfile) {
+        this.networkProfile = networkProfile;
+    }
+    
+    public long getNetworkLatencyMillis() {
+        return networkLatencyMillis;
+    }
+    
+    public void setNetworkLatencyMillis(long networkLatencyMillis) {
+        this.networkLatencyMillis = networkLatencyMillis;
+    }
+    
+    public long getNetworkDownloadKbps() {
+        return networkDownloadKbps;
+    }
+    
+    public void setNetworkDownloadKbps(long networkDownloadKbps) {
+        this.networkDownloadKbps = networkDownloadKbps;
+    }
+    
+    public long getNetworkUploadKbps() {
+        return networkUploadKbps;
+    }
+    
+    public void setNetworkUploadKbps(long networkUploadKbps) {
+        this.networkUploadKbps = networkUploadKbps;
+    }
+    
+    public List<String> getBlockedUrlPatterns() {
+        return blockedUrlPatterns;
+    }
+    
+    public void setBlockedUrlPatterns(List<String> blockedUrlPatterns) {
+        this.blockedUrlPatterns = blockedUrlPatterns;
+    }
+    
+    public String getScreenshotPath() {
+        return screenshotPath;
+    }
+    
+    public void setScreenshotPath(String screenshotPath) {
+        this.screenshotPath = screenshotPath;
+    }
+    
+    public boolean isParallelExecution() {
+        return parallelExecution;
+    }
+    
+    public void setParallelExecution(boolean parallelExecution) {
+        this.parallelExecution = parallelExecution;
+    }
+    
+    public int getThreadCount() {
+        return threadCount;
+    }
+    
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+    
+    public int getRetryCount() {
+        return retryCount;
+    }
+    
+    public void setRetryCount(int retryCount) {
+        this.retryCount = retryCount;
+    }
+    
+    public String getGridUrl() {
+        return gridUrl;
+    }
+    
+    public void setGridUrl(String gridUrl) {
+        this.gridUrl = gridUrl;
+    }
+    
+    public String getPerformanceProfile() {
+        return performanceProfile;
+    }
+    
+    public void setPerformanceProfile(String performanceProfile) {
+        this.performanceProfile = performanceProfile;
+    }
+    
+    public String getRemoteBrowser() {
+        return remoteBrowser;
+    }
+    
+    public void setRemoteBrowser(String remoteBrowser) {
+        this.remoteBrowser = remoteBrowser;
+    }
+    
+    public int getGridMaxConnections() {
+        return gridMaxConnections;
+    }
+    
+    public void setGridMaxConnections(int gridMaxConnections) {
+        this.gridMaxConnections = gridMaxConnections;
+    }
+    
+    public int getGridConnectTimeout() {
+        return gridConnectTimeout;
+    }
+    
+    public void setGridConnectTimeout(int gridConnectTimeout) {
+        this.gridConnectTimeout = gridConnectTimeout;
+    }
+    
+    public int getGridReadTimeout() {
+        return gridReadTimeout;
+    }
+    
+    public void setGridReadTimeout(int gridReadTimeout) {
+        this.gridReadTimeout = gridReadTimeout;
+    }
+    
+    public int getGridSessionRetries() {
+        return gridSessionRetries;
+    }
+    
+    public void setGridSessionRetries(int gridSessionRetries) {
+        this.gridSessionRetries = gridSessionRetries;
+    }
+    
+    public long getGridRetryBackoffMillis() {
+        return gridRetryBackoffMillis;
+    }
+    
+    public void setGridRetryBackoffMillis(long gridRetryBackoffMillis) {
+        this.gridRetryBackoffMillis = gridRetryBackoffMillis;
+    }
+    
+    public boolean isEnableVideoRecording() {
+        return enableVideoRecording;
+    }
+    
+    public void setEnableVideoRecording(boolean enableVideoRecording) {
+        this.enableVideoRecording = enableVideoRecording;
+    }
+    
+    public boolean isEnableScreenshotOnFailure() {
+        return enableScreenshotOnFailure;
+    }
+    
+    public void setEnableScreenshotOnFailure(boolean enableScreenshotOnFailure) {
+        this.enableScreenshotOnFailure = enableScreenshotOnFailure;
+    }
+    
+    public boolean isEnableScreenshotOnSuccess() {
+        return enableScreenshotOnSuccess;
+    }
+    
+    public void setEnableScreenshotOnSuccess(boolean enableScreenshotOnSuccess) {
+        this.enableScreenshotOnSuccess = enableScreenshotOnSuccess;
+    }
+    
+    public boolean isDriverPoolEnabled() {
+        return driverPoolEnabled;
+    }
+    
+    public void setDriverPoolEnabled(boolean driverPoolEnabled) {
+        this.driverPoolEnabled = driverPoolEnabled;
+    }
+    
+    public int getDriverPoolMinIdle() {
+        return driverPoolMinIdle;
+    }
+    
+    public void setDriverPoolMinIdle(int driverPoolMinIdle) {
+        this.driverPoolMinIdle = driverPoolMinIdle;
+    }
+    
+    public int getDriverPoolMaxTotal() {
+        return driverPoolMaxTotal;
+    }
+    
+    public void setDriverPoolMaxTotal(int driverPoolMaxTotal) {
+        this.driverPoolMaxTotal = driverPoolMaxTotal;
+    }
+    
+    public int getDriverPoolMaxUses() {
+        return driverPoolMaxUses;
+    }
+    
+    public void setDriverPoolMaxUses(int driverPoolMaxUses) {
+        this.driverPoolMaxUses = driverPoolMaxUses;
+    }
+    
+    public List<String> getDriverBrowsers() {
+        return driverBrowsers;
+    }
+    
+    public void setDriverBrowsers(List<String> driverBrowsers) {
+        this.driverBrowsers = driverBrowsers;
+    }
+    
+    public boolean isDriverBinaryOffline() {
+        return driverBinaryOffline;
+    }
+    
+    public void setDriverBinaryOffline(boolean driverBinaryOffline) {
+        this.driverBinaryOffline = driverBinaryOffline;
+    }
+    
+    public String getDriverCachePath() {
+        return driverCachePath;
+    }
+    
+    public void setDriverCachePath(String driverCachePath) {
+        this.driverCachePath = driverCachePath;
+    }
+    
+    public int getSessionIdleTtlSeconds() {
+        return sessionIdleTtlSeconds;
+    }
+    
+    public void setSessionIdleTtlSeconds(int sessionIdleTtlSeconds) {
+        this.sessionIdleTtlSeconds = sessionIdleTtlSeconds;
+    }
+    
+    public int getSessionReaperIntervalSeconds() {
+        return sessionReaperIntervalSeconds;
+    }
+    
+    public void setSessionReaperIntervalSeconds(int sessionReaperIntervalSeconds) {
+        this.sessionReaperIntervalSeconds = sessionReaperIntervalSeconds;
+    }
+    
+    public boolean isResourceMonitorEnabled() {
+        return resourceMonitorEnabled;
+    }
+    
+    public void setResourceMonitorEnabled(boolean resourceMonitorEnabled) {
+        this.resourceMonitorEnabled = resourceMonitorEnabled;
+    }
+    
+    public long getResourceSampleIntervalMillis() {
+        return resourceSampleIntervalMillis;
+    }
+    
+    public void setResourceSampleIntervalMillis(long resourceSampleIntervalMillis) {
+        this.resourceSampleIntervalMillis = resourceSampleIntervalMillis;
+    }
+    
+    public int getSessionMemoryCeilingMb() {
+        return sessionMemoryCeilingMb;
+    }
+    
+    public void setSessionMemoryCeilingMb(int sessionMemoryCeilingMb) {
+        this.sessionMemoryCeilingMb = sessionMemoryCeilingMb;
+    }
+    
+    public boolean isAutoscaleThreads() {
+        return autoscaleThreads;
+    }
+    
+    public void setAutoscaleThreads(boolean autoscaleThreads) {
+        this.autoscaleThreads = autoscaleThreads;
+    }
+    
+    public int getAutoscaleMinThreads() {
+        return autoscaleMinThreads;
+    }
+    
+    public void setAutoscaleMinThreads(int autoscaleMinThreads) {
+        this.autoscaleMinThreads = autoscaleMinThreads;
+    }
+    
+    public int getAutoscaleMaxThreads() {
+        return autoscaleMaxThreads;
+    }
+    
+    public void setAutoscaleMaxThreads(int autoscaleMaxThreads) {
+        this.autoscaleMaxThreads = autoscaleMaxThreads;
+    }
+    
+    public int getAutoscaleSessionMemoryMb() {
+        return autoscaleSessionMemoryMb;
+    }
+    
+    public void setAutoscaleSessionMemoryMb(int autoscaleSessionMemoryMb) {
+        this.autoscaleSessionMemoryMb = autoscaleSessionMemoryMb;
+    }
+    
+    public long getAutoscaleLatencyP95Millis() {
+        return autoscaleLatencyP95Millis;
+    }
+    
+    public void setAutoscaleLatencyP95Millis(long autoscaleLatencyP95Millis) {
+        this.autoscaleLatencyP95Millis = autoscaleLatencyP95Millis;
+    }
+    
+    public int getAutoscaleIntervalSeconds() {
+        return autoscaleIntervalSeconds;
+    }
+    
+    public void setAutoscaleIntervalSeconds(int autoscaleIntervalSeconds) {
+        this.autoscaleIntervalSeconds = autoscaleIntervalSeconds;
+    }
+    
+    public long getWaitPollInitialMillis() {
+        return waitPollInitialMillis;
+    }
+    
+    public void setWaitPollInitialMillis(long waitPollInitialMillis) {
+        this.waitPollInitialMillis = waitPollInitialMillis;
+    }
+    
+    public long getWaitPollMaxMillis() {
+        return waitPollMaxMillis;
+    }
+    
+    public void setWaitPollMaxMillis(long waitPollMaxMillis) {
+        this.waitPollMaxMillis = waitPollMaxMillis;
+    }
+    
+    public double getWaitPollMultiplier() {
+        return waitPollMultiplier;
+    }
+    
+    public void setWaitPollMultiplier(double waitPollMultiplier) {
+        this.waitPollMultiplier = waitPollMultiplier;
+    }
+    
+    public boolean isCompileLocators() {
+        return compileLocators;
+    }
+    
+    public void setCompileLocators(boolean compileLocators) {
+        this.compileLocators = compileLocators;
+    }
+    
+    public boolean isBatchActions() {
+        return batchActions;
+    }
+    
+    public void setBatchActions(boolean batchActions) {
+        this.batchActions = batchActions;
+    }
+    
+    public String getActionBatchMode() {
+        return actionBatchMode;
+    }
+    
+    public void setActionBatchMode(String actionBatchMode) {
+        this.actionBatchMode = actionBatchMode;
+    }
+    
+    public long getRetryBackoffMillis() {
+        return retryBackoffMillis;
+    }
+    
+    public void setRetryBackoffMillis(long retryBackoffMillis) {
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+    
+    public long getRetryMaxBackoffMillis() {
+        return retryMaxBackoffMillis;
+    }
+    
+    public void setRetryMaxBackoffMillis(long retryMaxBackoffMillis) {
+        this.retryMaxBackoffMillis = retryMaxBackoffMillis;
+    }
+    
+    public long getPageQuietMillis() {
+        return pageQuietMillis;
+    }
+    
+    public void setPageQuietMillis(long pageQuietMillis) {
+        this.pageQuietMillis = pageQuietMillis;
+    }
+    
+    public int getScreenshotQueueCapacity() {
+        return screenshotQueueCapacity;
+    }
+    
+    public void setScreenshotQueueCapacity(int screenshotQueueCapacity) {
+        this.screenshotQueueCapacity = screenshotQueueCapacity;
+    }
+    
+    public int getScreenshotWriterThreads() {
+        return screenshotWriterThreads;
+    }
+    
+    public void setScreenshotWriterThreads(int screenshotWriterThreads) {
+        this.screenshotWriterThreads = screenshotWriterThreads;
+    }
+    
+    public String getScreenshotDropPolicy() {
+        return screenshotDropPolicy;
+    }
+    
+    public void setScreenshotDropPolicy(String screenshotDropPolicy) {
+        this.screenshotDropPolicy = screenshotDropPolicy;
+    }
+    
+    public boolean isScreenshotDeduplication() {
+        return screenshotDeduplication;
+    }
+    
+    public void setScreenshotDeduplication(boolean screenshotDeduplication) {
+        this.screenshotDeduplication = screenshotDeduplication;
+    }
+    
+    public int getScreenshotNearDuplicateDistance() {
+        return screenshotNearDuplicateDistance;
+    }
+    
+    public void setScreenshotNearDuplicateDistance(int screenshotNearDuplicateDistance) {
+        this.screenshotNearDuplicateDistance = screenshotNearDuplicateDistance;
+    }
+    
+    public String getScreenshotFormat() {
+        return screenshotFormat;
+    }
+    
+    public void setScreenshotFormat(String screenshotFormat) {
+        this.screenshotFormat = screenshotFormat;
+    }
+    
+    public double getScreenshotQuality() {
+        return screenshotQuality;
+    }
+    
+    public void setScreenshotQuality(double screenshotQuality) {
+        this.screenshotQuality = screenshotQuality;
+    }
+    
+    public double getScreenshotScale() {
+        return screenshotScale;
+    }
+    
+    public void setScreenshotScale(double screenshotScale) {
+        this.screenshotScale = screenshotScale;
+    }
+    
+    public boolean isScreenshotGrayscale() {
+        return screenshotGrayscale;
+    }
+    
+    public void setScreenshotGrayscale(boolean screenshotGrayscale) {
+        this.screenshotGrayscale = screenshotGrayscale;
+    }
+    
+    public int getScreenshotRetentionDays() {
+        return screenshotRetentionDays;
+    }
+    
+    public void setScreenshotRetentionDays(int screenshotRetentionDays) {
+        this.screenshotRetentionDays = screenshotRetentionDays;
+    }
+    
+    public int getScreenshotMaxDirectoryMb() {
+        return screenshotMaxDirectoryMb;
+    }
+    
+    public void setScreenshotMaxDirectoryMb(int screenshotMaxDirectoryMb) {
+        this.screenshotMaxDirectoryMb = screenshotMaxDirectoryMb;
+    }
+    
+    public int getScreenshotReconcileIntervalMinutes() {
+        return screenshotReconcileIntervalMinutes;
+    }
+    
+    public void setScreenshotReconcileIntervalMinutes(int screenshotReconcileIntervalMinutes) {
+        this.screenshotReconcileIntervalMinutes = screenshotReconcileIntervalMinutes;
+    }
+    
+    public int getVideoBufferSeconds() {
+        return videoBufferSeconds;
+    }
+    
+    public void setVideoBufferSeconds(int videoBufferSeconds) {
+        this.videoBufferSeconds = videoBufferSeconds;
+    }
+    
+    public int getVideoBufferMb() {
+        return videoBufferMb;
+    }
+    
+    public void setVideoBufferMb(int videoBufferMb) {
+        this.videoBufferMb = videoBufferMb;
+    }
+    
+    public int getVideoFrameQuality() {
+        return videoFrameQuality;
+    }
+    
+    public void setVideoFrameQuality(int videoFrameQuality) {
+        this.videoFrameQuality = videoFrameQuality;
+    }
+    
+    public int getVideoMaxWidth() {
+        return videoMaxWidth;
+    }
+    
+    public void setVideoMaxWidth(int videoMaxWidth) {
+        this.videoMaxWidth = videoMaxWidth;
+    }
+    
+    public int getVideoMaxHeight() {
+        return videoMaxHeight;
+    }
+    
+    public void setVideoMaxHeight(int videoMaxHeight) {
+        this.videoMaxHeight = videoMaxHeight;
+    }
+    
+    @Override
+    public String toString() {
+        return "EnvironmentConfig{" +
+                "baseUrl='" + baseUrl + '\'' +
+                ", browser='" + browser + '\'' +
+                ", headless=" + headless +
+                ", implicitWait=" + implicitWait +
+                ", explicitWait=" + explicitWait +
+                ", pageLoadTimeout=" + pageLoadTimeout +
+                ", pageLoadStrategy='" + pageLoadStrategy + '\'' +
+                ", networkProfile='" + networkProfile + '\'' +
+                ", networkLatencyMillis=" + networkLatencyMillis +
+                ", networkDownloadKbps=" + networkDownloadKbps +
+                ", networkUploadKbps=" + networkUploadKbps +
+                ", blockedUrlPatterns=" + blockedUrlPatterns +
+                ", screenshotPath='" + screenshotPath + '\'' +
+                ", parallelExecution=" + parallelExecution +
+                ", threadCount=" + threadCount +
+                ", retryCount=" + retryCount +
+                ", gridUrl='" + gridUrl + '\'' +
+                ", performanceProfile='" + performanceProfile + '\'' +
+                ", remoteBrowser='" + remoteBrowser + '\'' +
+                ", gridMaxConnections=" + gridMaxConnections +
+                ", gridConnectTimeout=" + gridConnectTimeout +
+                ", gridReadTimeout=" + gridReadTimeout +
+                ", gridSessionRetries=" + gridSessionRetries +
+                ", gridRetryBackoffMillis=" + gridRetryBackoffMillis +
+                ", enableVideoRecording=" + enableVideoRecording +
+                ", enableScreenshotOnFailure=" + enableScreenshotOnFailure +
+                ", enableScreenshotOnSuccess=" + enableScreenshotOnSuccess +
+                ", driverPoolEnabled=" + driverPoolEnabled +
+                ", driverPoolMinIdle=" + driverPoolMinIdle +
+                ", driverPoolMaxTotal=" + driverPoolMaxTotal +
+                ", driverPoolMaxUses=" + driverPoolMaxUses +
+                ", driverBrowsers=" + driverBrowsers +
+                ", driverBinaryOffline=" + driverBinaryOffline +
+                ", driverCachePath='" + driverCachePath + '\'' +
+                ", sessionIdleTtlSeconds=" + sessionIdleTtlSeconds +
+                ", sessionReaperIntervalSeconds=" + sessionReaperIntervalSeconds +
+                ", resourceMonitorEnabled=" + resourceMonitorEnabled +
+                ", resourceSampleIntervalMillis=" + resourceSampleIntervalMillis +
+                ", sessionMemoryCeilingMb=" + sessionMemoryCeilingMb +
+                ", autoscaleThreads=" + autoscaleThreads +
+                ", autoscaleMinThreads=" + autoscaleMinThreads +
+                ", autoscaleMaxThreads=" + autoscaleMaxThreads +
+                ", autoscaleSessionMemoryMb=" + autoscaleSessionMemoryMb +
+                ", autoscaleLatencyP95Millis=" + autoscaleLatencyP95Millis +
+                ", autoscaleIntervalSeconds=" + autoscaleIntervalSeconds +
+                ", waitPollInitialMillis=" + waitPollInitialMillis +
+                ", waitPollMaxMillis=" + waitPollMaxMillis +
+                ", waitPollMultiplier=" + waitPollMultiplier +
+                ", compileLocators=" + compileLocators +
+                ", batchActions=" + batchActions +
+                ", actionBatchMode='" + actionBatchMode + '\'' +
+                ", retryBackoffMillis=" + retryBackoffMillis +
+                ", retryMaxBackoffMillis=" + retryMaxBackoffMillis +
+                ", pageQuietMillis=" + pageQuietMillis +
+                ", screenshotQueueCapacity=" + screenshotQueueCapacity +
+                ", screenshotWriterThreads=" + screenshotWriterThreads +
+                ", screenshotDropPolicy='" + screenshotDropPolicy + '\'' +
+                ", screenshotDeduplication=" + screenshotDeduplication +
+                ", screenshotNearDuplicateDistance=" + screenshotNearDuplicateDistance +
+                ", screenshotFormat='" + screenshotFormat + '\'' +
+                ", screenshotQuality=" + screenshotQuality +
+                ", screenshotScale=" + screenshotScale +
+                ", screenshotGrayscale=" + screenshotGrayscale +
+                ", screenshotRetentionDays=" + screenshotRetentionDays +
+                ", screenshotMaxDirectoryMb=" + screenshotMaxDirectoryMb +
+                ", screenshotReconcileIntervalMinutes=" + screenshotReconcileIntervalMinutes +
+                ", videoBufferSeconds=" + videoBufferSeconds +
+                ", videoBufferMb=" + videoBufferMb +
+                ", videoFrameQuality=" + videoFrameQuality +
+                ", videoMaxWidth=" + videoMaxWidth +
+                ", videoMaxHeight=" + videoMaxHeight +
+                '}';
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.swaglabs.core.driver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Per-test override of the environment's page-load strategy and network emulation
+ * A page-load strategy that differs from the current session's forces a new session for the test
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface BrowserConditions {
+
+    /**
+     * Page-load strategy: normal, eager or none (empty keeps the environment setting)
+     */
+    String pageLoadStrategy() default "";
+
+    /**
+     * Network profile name, e.g. slow-3g or offline (empty keeps the environment setting)
+     */
+    String network() default "";
+}
@@ -0,0 +1,83 @@
+package com.swaglabs.core.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Records the latency of WebDriver commands in a sliding window shared by all sessions
+ * Feeds the p95 latency used by the concurrency autoscaler
+ */
+public class CommandLatencyRecorder implements WebDriverListener {
+    private static final int WINDOW_SIZE = 512;
+
+    private static final long[] window = new long[WINDOW_SIZE];
+    private static int recorded;
+    private static int next;
+
+    // Call-local start time; before/after callbacks always run on the calling thread
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+
+    private CommandLatencyRecorder() {
+    }
+
+    /**
+     * Wrap a driver so every command it executes is timed
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<WebDriver>(new CommandLatencyRecorder()).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startNanos.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        Long start = startNanos.get();
+        if (start != null) {
+            startNanos.remove();
+            record((System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static synchronized void record(long millis) {
+        window[next] = millis;
+        next = (next + 1) % WINDOW_SIZE;
+        recorded = Math.min(recorded + 1, WINDOW_SIZE);
+    }
+
+    /**
+     * 95th percentile of the recorded command latencies in milliseconds, or -1 when nothing was recorded
+     */
+    public static long getP95Millis() {
+        long[] samples;
+        synchronized (CommandLatencyRecorder.class) {
+            if (recorded == 0) {
+                return -1;
+            }
+            samples = Arrays.copyOf(window, recorded);
+        }
+        Arrays.sort(samples);
+        return samples[(int) Math.ceil(samples.length * 0.95) - 1];
+    }
+
+    /**
+     * Number of commands currently in the window
+     */
+    public static synchronized int getSampleCount() {
+        return recorded;
+    }
+
+    /**
+     * Drop all recorded latencies, e.g. after the concurrency level changed
+     */
+    public static synchronized void reset() {
+        recorded = 0;
+        next = 0;
+    }
+}
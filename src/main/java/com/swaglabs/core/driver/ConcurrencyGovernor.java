@@ -0,0 +1,181 @@
+package com.swaglabs.core.driver;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many browser sessions run at once and adjusts the limit while the suite runs
+ * Grows when commands are fast and memory is free, shrinks when p95 command latency degrades
+ */
+public class ConcurrencyGovernor {
+    private static final Logger logger = LogManager.getLogger(ConcurrencyGovernor.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+    private static final int MIN_LATENCY_SAMPLES = 50;
+
+    private static final ResizableSemaphore slots = new ResizableSemaphore();
+    private static volatile ScheduledExecutorService adjuster;
+    private static volatile int limit;
+    private static int minLimit;
+    private static int maxLimit;
+    private static long observedSessionBytes;
+
+    private ConcurrencyGovernor() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Enable the governor with an initial session limit and start periodic adjustment
+     */
+    public static synchronized void start(int initialLimit, int min, int max) {
+        if (adjuster != null) {
+            return;
+        }
+        minLimit = Math.max(1, min);
+        maxLimit = Math.max(minLimit, max);
+        limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        slots.release(limit);
+
+        adjuster = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "concurrency-governor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, config.getAutoscaleIntervalSeconds());
+        adjuster.scheduleWithFixedDelay(ConcurrencyGovernor::adjust, interval, interval, TimeUnit.SECONDS);
+        logger.info("Concurrency governor started with {} session slot(s) (min: {}, max: {})", limit, minLimit, maxLimit);
+    }
+
+    /**
+     * Block until a session slot is free; returns whether a slot was taken, false when the governor is not running
+     */
+    public static boolean acquire() {
+        if (adjuster == null) {
+            return false;
+        }
+        try {
+            slots.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a browser session slot", e);
+        }
+    }
+
+    /**
+     * Return a session slot; only for sessions whose acquire() returned true
+     */
+    public static void release() {
+        if (adjuster != null) {
+            slots.release();
+        }
+    }
+
+    /**
+     * Record the peak memory of a session's process tree to refine the per-session estimate
+     */
+    public static synchronized void recordSessionMemory(long peakRssBytes) {
+        if (peakRssBytes > 0) {
+            observedSessionBytes = observedSessionBytes == 0
+                    ? peakRssBytes
+                    : (observedSessionBytes * 3 + peakRssBytes) / 4;
+        }
+    }
+
+    /**
+     * Current session limit
+     */
+    public static int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Memory a new session is expected to need, from observed usage or the configured estimate; always positive
+     */
+    public static synchronized long getSessionMemoryEstimate() {
+        if (observedSessionBytes > 0) {
+            return observedSessionBytes;
+        }
+        int configuredMb = config.getAutoscaleSessionMemoryMb();
+        if (configuredMb <= 0) {
+            throw new IllegalStateException("autoscaleSessionMemoryMb must be positive, got " + configuredMb);
+        }
+        return configuredMb * 1024L * 1024L;
+    }
+
+    /**
+     * Memory available to new processes, from /proc/meminfo or the JVM's view of free physical memory
+     */
+    @SuppressWarnings("deprecation")
+    public static long getAvailableMemoryBytes() {
+        try {
+            if (Files.isReadable(MEMINFO)) {
+                for (String line : Files.readAllLines(MEMINFO)) {
+                    if (line.startsWith("MemAvailable:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024L;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Unable to read {}: {}", MEMINFO, e.getMessage());
+        }
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getFreePhysicalMemorySize();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static synchronized void adjust() {
+        try {
+            if (CommandLatencyRecorder.getSampleCount() < MIN_LATENCY_SAMPLES) {
+                return;
+            }
+            long p95 = CommandLatencyRecorder.getP95Millis();
+            long threshold = config.getAutoscaleLatencyP95Millis();
+            double load = ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage();
+            int cores = Runtime.getRuntime().availableProcessors();
+
+            if (p95 > threshold && limit > minLimit) {
+                limit--;
+                slots.reducePermits(1);
+                logger.info("p95 command latency {} ms above {} ms, reducing session slots to {}", p95, threshold, limit);
+                CommandLatencyRecorder.reset();
+            } else if (p95 < threshold / 2 && limit < maxLimit
+                    && getAvailableMemoryBytes() > getSessionMemoryEstimate() * 2
+                    && (load < 0 || load < cores)) {
+                limit++;
+                slots.release();
+                logger.info("p95 command latency {} ms with spare capacity, raising session slots to {}", p95, limit);
+                CommandLatencyRecorder.reset();
+            }
+        } catch (Exception e) {
+            logger.warn("Concurrency adjustment failed: {}", e.getMessage());
+        }
+    }
+
+    /* ===================== Inner Class ===================== */
+
+    private static class ResizableSemaphore extends Semaphore {
+        private static final long serialVersionUID = 1L;
+
+        ResizableSemaphore() {
+            super(0, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.swaglabs.core.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+/**
+ * Resolves the browser session behind a decorated driver, such as one timed by CommandLatencyRecorder
+ * DevTools helpers attach to and key their state on this session, so callers may pass either driver
+ */
+final class DevToolsTarget {
+
+    private DevToolsTarget() {
+        // Private constructor to prevent instantiation
+    }
+
+    static WebDriver of(WebDriver driver) {
+        WebDriver target = driver;
+        while (target instanceof WrapsDriver) {
+            WebDriver wrapped = ((WrapsDriver) target).getWrappedDriver();
+            if (wrapped == null || wrapped == target) {
+                break;
+            }
+            target = wrapped;
+        }
+        return target;
+    }
+}
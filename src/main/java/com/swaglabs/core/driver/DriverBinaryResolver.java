@@ -0,0 +1,194 @@
+package com.swaglabs.core.driver;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Resolves browser driver binaries once per JVM
+ * Resolution runs concurrently at suite start so that session creation is only a process spawn
+ */
+public class DriverBinaryResolver {
+    private static final Logger logger = LogManager.getLogger(DriverBinaryResolver.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private static final ConcurrentHashMap<String, CompletableFuture<String>> resolvedBinaries = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Long> resolutionTimes = new ConcurrentHashMap<>();
+
+    private DriverBinaryResolver() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Resolve all given browsers concurrently and wait for the stage to finish
+     */
+    public static void resolveAll(Collection<String> browsers) {
+        long start = System.nanoTime();
+        CompletableFuture<?>[] futures = browsers.stream()
+                .map(DriverBinaryResolver::resolveAsync)
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            logger.warn("Driver binary resolution failed: {}", e.getCause().getMessage());
+        }
+        logger.info("Driver binary resolution stage finished in {} ms for {}",
+                (System.nanoTime() - start) / 1_000_000, browsers);
+    }
+
+    /**
+     * Resolve the driver binary for a browser, blocking until the memoized result is available
+     */
+    public static String resolve(String browser) {
+        try {
+            return resolveAsync(browser).join();
+        } catch (CompletionException e) {
+            resolvedBinaries.remove(normalize(browser));
+            throw new RuntimeException("Driver binary resolution failed for browser: " + browser, e.getCause());
+        }
+    }
+
+    /**
+     * Time spent resolving each browser's driver binary, in milliseconds
+     */
+    public static Map<String, Long> getResolutionTimes() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(resolutionTimes));
+    }
+
+    private static CompletableFuture<String> resolveAsync(String browser) {
+        String key = normalize(browser);
+        return resolvedBinaries.computeIfAbsent(key,
+                k -> CompletableFuture.supplyAsync(() -> resolveBinary(k)));
+    }
+
+    private static String resolveBinary(String browser) {
+        DriverBinary binary = DriverBinary.forBrowser(browser);
+        if (binary == null) {
+            logger.debug("No driver binary to resolve for browser: {}", browser);
+            return null;
+        }
+
+        long start = System.nanoTime();
+        String path = config.isDriverBinaryOffline() ? resolveOffline(binary) : resolveOnline(binary);
+        System.setProperty(binary.systemProperty, path);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        resolutionTimes.put(browser, elapsed);
+
+        logger.info("Resolved {} driver binary in {} ms: {}", browser, elapsed, path);
+        return path;
+    }
+
+    private static String resolveOnline(DriverBinary binary) {
+        WebDriverManager manager = binary.manager();
+        String cachePath = config.getDriverCachePath();
+        if (cachePath != null && !cachePath.trim().isEmpty()) {
+            manager.cachePath(cachePath);
+        }
+        manager.setup();
+        return manager.getDownloadedDriverPath();
+    }
+
+    private static String resolveOffline(DriverBinary binary) {
+        String cachePath = config.getDriverCachePath();
+        if (cachePath == null || cachePath.trim().isEmpty()) {
+            throw new IllegalStateException("Offline driver resolution requires driverCachePath to be configured");
+        }
+
+        Path cacheDir = Paths.get(cachePath);
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            Optional<Path> match = files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> binary.matches(path.getFileName().toString()))
+                    .max(Comparator.comparingLong(DriverBinaryResolver::lastModified));
+            return match
+                    .map(Path::toString)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "No " + binary.fileName + " found in driver cache: " + cacheDir));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read driver cache: " + cacheDir, e);
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String normalize(String browser) {
+        return browser == null ? "chrome" : browser.trim().toLowerCase();
+    }
+
+    /* ===================== Inner Enum ===================== */
+
+    private enum DriverBinary {
+        CHROME("chromedriver", "webdriver.chrome.driver"),
+        FIREFOX("geckodriver", "webdriver.gecko.driver"),
+        EDGE("msedgedriver", "webdriver.edge.driver"),
+        IE("IEDriverServer", "webdriver.ie.driver"),
+        CHROMIUM("chromedriver", "webdriver.chrome.driver");
+
+        private final String fileName;
+        private final String systemProperty;
+
+        DriverBinary(String fileName, String systemProperty) {
+            this.fileName = fileName;
+            this.systemProperty = systemProperty;
+        }
+
+        static DriverBinary forBrowser(String browser) {
+            switch (browser) {
+                case "chrome":
+                    return CHROME;
+                case "firefox":
+                    return FIREFOX;
+                case "edge":
+                    return EDGE;
+                case "ie":
+                    return IE;
+                case "chromium":
+                    return CHROMIUM;
+                default:
+                    return null;
+            }
+        }
+
+        boolean matches(String name) {
+            return name.equals(fileName) || name.equals(fileName + ".exe");
+        }
+
+        WebDriverManager manager() {
+            switch (this) {
+                case FIREFOX:
+                    return WebDriverManager.firefoxdriver();
+                case EDGE:
+                    return WebDriverManager.edgedriver();
+                case IE:
+                    return WebDriverManager.iedriver();
+                case CHROMIUM:
+                    return WebDriverManager.chromiumdriver();
+                default:
+                    return WebDriverManager.chromedriver();
+            }
+        }
+    }
+}
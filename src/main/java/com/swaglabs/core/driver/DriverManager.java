@@ -1,239 +1,471 @@
-package com.swaglabs.core.driver;
-
-import com.swaglabs.core.config.ConfigurationManager;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.remote.RemoteWebDriver;
-import org.openqa.selenium.safari.SafariDriver;
-import org.openqa.selenium.safari.SafariOptions;
-
-import java.net.URL;
-import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-/**
- * Thread-safe WebDriver management system
- * Supports parallel execution and proper resource cleanup
- */
-public class DriverManager {
-    private static final Logger logger = LogManager.getLogger(DriverManager.class);
-    private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
-    private static final ConcurrentHashMap<Long, WebDriver> driverPool = new ConcurrentHashMap<>();
-    
-    private static final ConfigurationManager config = ConfigurationManager.getInstance();
-    
-    private DriverManager() {
-        // Private constructor to prevent instantiation
-    }
-    
-    /**
-     * Get the WebDriver instance for the current thread
-     */
-    public static WebDriver getDriver() {
-        WebDriver driver = driverThreadLocal.get();
-        if (driver == null) {
-            driver = createDriver();
-            driverThreadLocal.set(driver);
-            driverPool.put(Thread.currentThread().getId(), driver);
-            logger.info("Created new WebDriver instance for thread: {}", Thread.currentThread().getId());
-        }
-        return driver;
-    }
-    
-    /**
-     * Create a new WebDriver instance based on configuration
-     */
-    private static WebDriver createDriver() {
-        String browser = config.getBrowser().toLowerCase();
-        boolean isHeadless = config.isHeadless();
-        
-        logger.info("Creating WebDriver for browser: {} (headless: {})", browser, isHeadless);
-        
-        try {
-            switch (browser) {
-                case "chrome":
-                    return createChromeDriver(isHeadless);
-                case "firefox":
-                    return createFirefoxDriver(isHeadless);
-                case "edge":
-                    return createEdgeDriver(isHeadless);
-                case "safari":
-                    return createSafariDriver();
-                case "remote":
-                    return createRemoteDriver();
-                default:
-                    logger.warn("Unsupported browser: {}. Using Chrome as default.", browser);
-                    return createChromeDriver(isHeadless);
-            }
-        } catch (Exception e) {
-            logger.error("Failed to create WebDriver for browser: {}", browser, e);
-            throw new RuntimeException("WebDriver creation failed", e);
-        }
-    }
-    
-    private static WebDriver createChromeDriver(boolean headless) {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        
-        // Basic options
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
-        
-        // Privacy and performance options
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-infobars");
-        options.addArguments("--disable-popup-blocking");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--disable-plugins");
-        
-        // Headless mode
-        if (headless) {
-            options.addArguments("--headless=new");
-        }
-        
-        // Disable credential services
-        Map<String, Object> prefs = new HashMap<>();
-        prefs.put("credentials_enable_service", false);
-        prefs.put("profile.password_manager_enabled", false);
-        prefs.put("profile.default_content_setting_values.notifications", 2);
-        options.setExperimentalOption("prefs", prefs);
-        
-        ChromeDriver driver = new ChromeDriver(options);
-        configureDriver(driver);
-        return driver;
-    }
-    
-    private static WebDriver createFirefoxDriver(boolean headless) {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        
-        if (headless) {
-            options.addArguments("--headless");
-        }
-        
-        options.addArguments("--width=1920");
-        options.addArguments("--height=1080");
-        
-        FirefoxDriver driver = new FirefoxDriver(options);
-        configureDriver(driver);
-        return driver;
-    }
-    
-    private static WebDriver createEdgeDriver(boolean headless) {
-        WebDriverManager.edgedriver().setup();
-        EdgeOptions options = new EdgeOptions();
-        
-        // Basic options
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
-        
-        // Privacy options
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-infobars");
-        options.addArguments("--disable-popup-blocking");
-        
-        if (headless) {
-            options.addArguments("--headless=new");
-        }
-        
-        // Disable credential services
-        Map<String, Object> prefs = new HashMap<>();
-        prefs.put("credentials_enable_service", false);
-        prefs.put("profile.password_manager_enabled", false);
-        prefs.put("profile.default_content_setting_values.notifications", 2);
-        options.setExperimentalOption("prefs", prefs);
-        
-        EdgeDriver driver = new EdgeDriver(options);
-        configureDriver(driver);
-        return driver;
-    }
-    
-    private static WebDriver createSafariDriver() {
-        SafariOptions options = new SafariOptions();
-        SafariDriver driver = new SafariDriver(options);
-        configureDriver(driver);
-        return driver;
-    }
-    
-    private static WebDriver createRemoteDriver() {
-        try {
-            // This would be used for Selenium Grid
-            // Implementation depends on your grid setup
-            logger.warn("Remote driver creation not implemented. Using Chrome as fallback.");
-            return createChromeDriver(false);
-        } catch (Exception e) {
-            logger.error("Failed to create remote driver", e);
-            throw new RuntimeException("Remote driver creation failed", e);
-        }
-    }
-    
-    private static void configureDriver(WebDriver driver) {
-        driver.manage().window().maximize();
-        driver.manage().deleteAllCookies();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
-        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(30));
-    }
-    
-    /**
-     * Quit the WebDriver for the current thread
-     */
-    public static void quitDriver() {
-        WebDriver driver = driverThreadLocal.get();
-        if (driver != null) {
-            try {
-                logger.info("Quitting WebDriver for thread: {}", Thread.currentThread().getId());
-                driver.quit();
-            } catch (Exception e) {
-                logger.warn("Error while quitting WebDriver", e);
-            } finally {
-                driverThreadLocal.remove();
-                driverPool.remove(Thread.currentThread().getId());
-            }
-        }
-    }
-    
-    /**
-     * Quit all WebDriver instances
-     */
-    public static void quitAllDrivers() {
-        logger.info("Quitting all WebDriver instances");
-        driverPool.values().forEach(driver -> {
-            try {
-                driver.quit();
-            } catch (Exception e) {
-                logger.warn("Error while quitting WebDriver", e);
-            }
-        });
-        driverPool.clear();
-        driverThreadLocal.remove();
-    }
-    
-    /**
-     * Get the number of active drivers
-     */
-    public static int getActiveDriverCount() {
-        return driverPool.size();
-    }
-    
-    /**
-     * Check if current thread has an active driver
-     */
-    public static boolean hasActiveDriver() {
-        return driverThreadLocal.get() != null;
-    }
+package com.swaglabs.core.driver;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import com.swaglabs.core.pages.PageSnapshot;
+import com.swaglabs.core.wait.WaitFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariOptions;
+import org.testng.ITestResult;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe WebDriver management system
+ * Supports parallel execution and proper resource cleanup
+ */
+public class DriverManager {
+    private static final Logger logger = LogManager.getLogger(DriverManager.class);
+    private static final ConcurrentHashMap<Object, BrowserConditions> testConditions = new ConcurrentHashMap<>();
+    // Sessions holding a governor slot; sessions created before the governor started hold none
+    private static final Set<WebDriver> governedSessions = ConcurrentHashMap.newKeySet();
+    
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final SessionRegistry sessionRegistry = new SessionRegistry(DriverManager::disposeDriver,
+            Duration.ofSeconds(config.getSessionIdleTtlSeconds()),
+            Duration.ofSeconds(config.getSessionReaperIntervalSeconds()));
+    private static volatile DriverPool sessionPool;
+    private static volatile GridHttpClientFactory gridHttpClientFactory;
+    
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::quitAllDrivers, "driver-shutdown-hook"));
+    }
+    
+    private DriverManager() {
+        // Private constructor to prevent instantiation
+    }
+    
+    /**
+     * Get the WebDriver instance bound to the current test scope
+     */
+    public static WebDriver getDriver() {
+        return getDriver(null);
+    }
+    
+    /**
+     * Get the WebDriver bound to the current test scope, creating it for the given browser instead of the configured one
+     * Used by suites that pass the browser as a TestNG parameter; "grid" starts a remote session
+     */
+    public static WebDriver getDriver(String browser) {
+        String requestedBrowser = browser != null ? browser.toLowerCase() : config.getBrowser().toLowerCase();
+        Object key = SessionScope.currentKey();
+        WebDriver driver = sessionRegistry.lease(key);
+        if (driver != null && !hasRequiredPageLoadStrategy(driver)) {
+            logger.info("Current session does not use the requested page-load strategy, recreating it");
+            quitDriver();
+            driver = null;
+        } else if (driver != null && ResourceMonitor.isOverCeiling(driver)) {
+            logger.info("Current session exceeded the memory ceiling, recycling it");
+            quitDriver();
+            driver = null;
+        }
+        if (driver == null) {
+            boolean slotTaken = ConcurrencyGovernor.acquire();
+            try {
+                // Pooled sessions are built for the configured browser and strategy only
+                DriverPool pool = getSessionPool();
+                boolean pooled = pool != null && !hasPageLoadStrategyOverride()
+                        && requestedBrowser.equals(config.getBrowser().toLowerCase());
+                driver = pooled ? pool.lease() : createDriver(requestedBrowser);
+            } catch (RuntimeException e) {
+                if (slotTaken) {
+                    ConcurrencyGovernor.release();
+                }
+                throw e;
+            }
+            if (slotTaken) {
+                governedSessions.add(driver);
+            }
+            SessionRegistry.SessionHandle handle = sessionRegistry.register(key, driver);
+            applyNetworkConditions(driver, false);
+            logger.info("Created new WebDriver {} for scope: {}", handle, key);
+        }
+        return driver;
+    }
+    
+    /**
+     * Apply per-test browser conditions for the current test scope, or clear them when null
+     * Network emulation is re-applied immediately to an existing session
+     */
+    public static void setTestConditions(BrowserConditions conditions) {
+        Object key = SessionScope.currentKey();
+        BrowserConditions previous = conditions == null
+                ? testConditions.remove(key)
+                : testConditions.put(key, conditions);
+        
+        WebDriver driver = sessionRegistry.lookup(key);
+        if (driver != null && (hasNetworkOverride(previous) || hasNetworkOverride(conditions))) {
+            applyNetworkConditions(driver, true);
+        }
+    }
+    
+    private static PageLoadStrategy resolvePageLoadStrategy() {
+        BrowserConditions conditions = testConditions.get(SessionScope.currentKey());
+        if (conditions != null && !conditions.pageLoadStrategy().isEmpty()) {
+            return PageLoadStrategy.fromString(conditions.pageLoadStrategy().toLowerCase());
+        }
+        return config.getPageLoadStrategy();
+    }
+    
+    private static boolean hasPageLoadStrategyOverride() {
+        BrowserConditions conditions = testConditions.get(SessionScope.currentKey());
+        return conditions != null && !conditions.pageLoadStrategy().isEmpty();
+    }
+    
+    // Compares with the override, or with the configured strategy so a session created for an override is not kept
+    private static boolean hasRequiredPageLoadStrategy(WebDriver driver) {
+        PageLoadStrategy required = resolvePageLoadStrategy();
+        if (required == null || !(driver instanceof HasCapabilities)) {
+            return true;
+        }
+        Object current = ((HasCapabilities) driver).getCapabilities().getCapability(CapabilityType.PAGE_LOAD_STRATEGY);
+        // A session that does not report its strategy runs the W3C default
+        PageLoadStrategy actual = current == null
+                ? PageLoadStrategy.NORMAL
+                : PageLoadStrategy.fromString(String.valueOf(current).toLowerCase());
+        return actual == null || required == actual;
+    }
+    
+    private static boolean hasNetworkOverride(BrowserConditions conditions) {
+        return conditions != null && !conditions.network().isEmpty();
+    }
+    
+    private static void applyNetworkConditions(WebDriver driver, boolean force) {
+        BrowserConditions conditions = testConditions.get(SessionScope.currentKey());
+        NetworkProfile profile = hasNetworkOverride(conditions)
+                ? NetworkProfile.fromString(conditions.network())
+                : config.getNetworkProfile();
+        
+        if (profile == NetworkProfile.CUSTOM) {
+            NetworkEmulator.apply(driver, false, config.getNetworkLatencyMillis(),
+                    config.getNetworkDownloadKbps(), config.getNetworkUploadKbps());
+        } else if (force || profile != NetworkProfile.NONE) {
+            NetworkEmulator.apply(driver, profile);
+        }
+    }
+    
+    private static <T extends MutableCapabilities> T withSessionCapabilities(T options) {
+        PageLoadStrategy strategy = resolvePageLoadStrategy();
+        if (strategy != null) {
+            options.setCapability(CapabilityType.PAGE_LOAD_STRATEGY, strategy);
+        }
+        return options;
+    }
+    
+    /**
+     * Resolve driver binaries for all configured browsers once, concurrently, before any session starts
+     */
+    public static void resolveDriverBinaries() {
+        DriverBinaryResolver.resolveAll(config.getDriverBrowsers());
+        logger.info("Driver binary resolution times (ms): {}", DriverBinaryResolver.getResolutionTimes());
+    }
+    
+    /**
+     * Start the session pool and pre-warm browsers in the background when pooling is enabled
+     */
+    public static void initializePool() {
+        DriverPool pool = getSessionPool();
+        if (pool != null) {
+            pool.prewarm();
+        }
+    }
+    
+    private static DriverPool getSessionPool() {
+        if (!config.isDriverPoolEnabled()) {
+            return null;
+        }
+        if (sessionPool == null) {
+            synchronized (DriverManager.class) {
+                if (sessionPool == null) {
+                    sessionPool = new DriverPool(() -> createDriver(config.getBrowser().toLowerCase()),
+                            config.getDriverPoolMinIdle(),
+                            config.getDriverPoolMaxTotal(),
+                            config.getDriverPoolMaxUses(),
+                            Duration.ofSeconds(config.getPageLoadTimeout() * 4L));
+                }
+            }
+        }
+        return sessionPool;
+    }
+    
+    /**
+     * Create a new WebDriver instance for a browser, with the configured headless mode and options
+     */
+    private static WebDriver createDriver(String browser) {
+        boolean isHeadless = config.isHeadless();
+        
+        logger.info("Creating WebDriver for browser: {} (headless: {}, profile: {})",
+                browser, isHeadless, config.getPerformanceProfile());
+        
+        try {
+            switch (browser) {
+                case "chrome":
+                    return createChromeDriver(isHeadless);
+                case "firefox":
+                    return createFirefoxDriver(isHeadless);
+                case "edge":
+                    return createEdgeDriver(isHeadless);
+                case "safari":
+                    return createSafariDriver();
+                case "remote":
+                case "grid":
+                    return createRemoteDriver();
+                default:
+                    logger.warn("Unsupported browser: {}. Using Chrome as default.", browser);
+                    return createChromeDriver(isHeadless);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to create WebDriver for browser: {}", browser, e);
+            throw new RuntimeException("WebDriver creation failed", e);
+        }
+    }
+    
+    private static WebDriver createChromeDriver(boolean headless) {
+        DriverBinaryResolver.resolve("chrome");
+        ChromeDriverService service = ChromeDriverService.createDefaultService();
+        ChromeDriver driver = new ChromeDriver(service,
+                withSessionCapabilities(DriverOptionsRegistry.chromeOptions(headless, config.getPerformanceProfile())));
+        WebDriver session = configureDriver(driver);
+        ResourceMonitor.track(session, service);
+        return session;
+    }
+    
+    private static WebDriver createFirefoxDriver(boolean headless) {
+        DriverBinaryResolver.resolve("firefox");
+        GeckoDriverService service = GeckoDriverService.createDefaultService();
+        FirefoxDriver driver = new FirefoxDriver(service,
+                withSessionCapabilities(DriverOptionsRegistry.firefoxOptions(headless, config.getPerformanceProfile())));
+        WebDriver session = configureDriver(driver);
+        ResourceMonitor.track(session, service);
+        return session;
+    }
+    
+    private static WebDriver createEdgeDriver(boolean headless) {
+        DriverBinaryResolver.resolve("edge");
+        EdgeDriverService service = EdgeDriverService.createDefaultService();
+        EdgeDriver driver = new EdgeDriver(service,
+                withSessionCapabilities(DriverOptionsRegistry.edgeOptions(headless, config.getPerformanceProfile())));
+        WebDriver session = configureDriver(driver);
+        ResourceMonitor.track(session, service);
+        return session;
+    }
+    
+    private static WebDriver createSafariDriver() {
+        SafariOptions options = withSessionCapabilities(new SafariOptions());
+        return configureDriver(new SafariDriver(options));
+    }
+    
+    private static WebDriver createRemoteDriver() {
+        String remoteBrowser = config.getRemoteBrowser().toLowerCase();
+        Capabilities capabilities = withSessionCapabilities(DriverOptionsRegistry.options(
+                remoteBrowser, config.isHeadless(), config.getPerformanceProfile()));
+        
+        URL gridUrl;
+        try {
+            gridUrl = new URL(config.getGridUrl());
+        } catch (MalformedURLException e) {
+            throw new RuntimeException("Invalid grid URL: " + config.getGridUrl(), e);
+        }
+        
+        ClientConfig clientConfig = ClientConfig.defaultConfig()
+                .baseUrl(gridUrl)
+                .connectionTimeout(Duration.ofSeconds(config.getGridConnectTimeout()))
+                .readTimeout(Duration.ofSeconds(config.getGridReadTimeout()));
+        
+        int maxAttempts = Math.max(1, config.getGridSessionRetries() + 1);
+        long backoff = config.getGridRetryBackoffMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                HttpCommandExecutor executor = new HttpCommandExecutor(
+                        Collections.emptyMap(), clientConfig, getGridHttpClientFactory());
+                WebDriver driver = new Augmenter().augment(new RemoteWebDriver(executor, capabilities));
+                logger.info("Created remote {} session on grid: {}", remoteBrowser, gridUrl);
+                return configureDriver(driver);
+            } catch (SessionNotCreatedException e) {
+                if (attempt >= maxAttempts) {
+                    logger.error("Grid could not create a {} session after {} attempts", remoteBrowser, attempt);
+                    throw new RuntimeException("Remote driver creation failed", e);
+                }
+                logger.warn("Grid session creation attempt {} failed, retrying in {} ms: {}",
+                        attempt, backoff, e.getMessage());
+                sleepQuietly(backoff);
+                backoff *= 2;
+            }
+        }
+    }
+    
+    private static GridHttpClientFactory getGridHttpClientFactory() {
+        if (gridHttpClientFactory == null) {
+            synchronized (DriverManager.class) {
+                if (gridHttpClientFactory == null) {
+                    gridHttpClientFactory = new GridHttpClientFactory(config.getGridMaxConnections());
+                }
+            }
+        }
+        return gridHttpClientFactory;
+    }
+    
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting to retry remote session creation", e);
+        }
+    }
+    
+    private static WebDriver configureDriver(WebDriver driver) {
+        driver.manage().window().maximize();
+        driver.manage().deleteAllCookies();
+        // Implicit waits stay off: they multiply with explicit waits and slow down negative checks
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(30));
+        RequestBlocker.attach(driver, config.getBlockedUrlPatterns());
+        ScreencastRecorder.attach(driver);
+        if (config.isAutoscaleThreads()) {
+            // Time every command so the concurrency governor can react to latency; DevTools helpers unwrap it
+            driver = CommandLatencyRecorder.decorate(driver);
+        }
+        return driver;
+    }
+    
+    /**
+     * Mark the current test scope's session as not in use until the next getDriver
+     * It stays bound to the scope; the reaper disposes it only if it is left unused beyond the idle TTL
+     */
+    public static void releaseDriver() {
+        sessionRegistry.release(SessionScope.currentKey());
+    }
+    
+    /**
+     * Quit the WebDriver bound to the current test scope
+     */
+    public static void quitDriver() {
+        Object key = SessionScope.currentKey();
+        WebDriver driver = sessionRegistry.unregister(key);
+        if (driver != null) {
+            logger.info("Releasing WebDriver for scope: {}", key);
+            disposeDriver(driver);
+        }
+    }
+    
+    /**
+     * Return a driver to the pool when it was leased from it, otherwise quit it
+     */
+    private static void disposeDriver(WebDriver driver) {
+        releaseSlot(driver);
+        try {
+            DriverPool pool = sessionPool;
+            if (pool != null && pool.owns(driver)) {
+                pool.release(driver);
+            } else {
+                RequestBlocker.detach(driver);
+                ScreencastRecorder.detach(driver);
+                ResourceMonitor.untrack(driver);
+                WaitFactory.detach(driver);
+                PageSnapshot.detach(driver);
+                driver.quit();
+            }
+        } catch (Exception e) {
+            logger.warn("Error while quitting WebDriver", e);
+        }
+    }
+    
+    private static void releaseSlot(WebDriver driver) {
+        if (governedSessions.remove(driver)) {
+            ConcurrencyGovernor.release();
+        }
+    }
+    
+    /**
+     * Quit all WebDriver instances
+     */
+    public static void quitAllDrivers() {
+        logger.info("Quitting all WebDriver instances");
+        DriverPool pool = sessionPool;
+        sessionRegistry.unregisterAll().forEach(driver -> {
+            releaseSlot(driver);
+            if (pool != null && pool.owns(driver)) {
+                return;
+            }
+            try {
+                RequestBlocker.detach(driver);
+                ScreencastRecorder.detach(driver);
+                ResourceMonitor.untrack(driver);
+                WaitFactory.detach(driver);
+                PageSnapshot.detach(driver);
+                driver.quit();
+            } catch (Exception e) {
+                logger.warn("Error while quitting WebDriver", e);
+            }
+        });
+        testConditions.clear();
+        sessionRegistry.shutdown();
+        
+        if (pool != null) {
+            pool.shutdown();
+            sessionPool = null;
+        }
+        
+        GridHttpClientFactory clientFactory = gridHttpClientFactory;
+        if (clientFactory != null) {
+            clientFactory.shutdown();
+            gridHttpClientFactory = null;
+        }
+    }
+    
+    /**
+     * Get the number of active drivers
+     * With pooling enabled this reflects the sessions currently leased from the pool
+     */
+    public static int getActiveDriverCount() {
+        DriverPool pool = sessionPool;
+        return pool != null ? pool.getLeasedCount() : sessionRegistry.size();
+    }
+    
+    /**
+     * Get the number of warm sessions waiting in the pool
+     */
+    public static int getIdleDriverCount() {
+        DriverPool pool = sessionPool;
+        return pool != null ? pool.getIdleCount() : 0;
+    }
+    
+    /**
+     * Get the driver bound to a test's scope without creating or leasing one; null when the test has no session
+     */
+    public static WebDriver findDriver(ITestResult result) {
+        return sessionRegistry.lookup(SessionScope.of(result));
+    }
+    
+    /**
+     * Check if the current test scope has an active driver
+     */
+    public static boolean hasActiveDriver() {
+        return sessionRegistry.lookup(SessionScope.currentKey()) != null;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.swaglabs.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.safari.SafariOptions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of driver options templates keyed by browser, headless flag and performance profile
+ * Each template is built once and every session receives its own copy
+ */
+public class DriverOptionsRegistry {
+    private static final Logger logger = LogManager.getLogger(DriverOptionsRegistry.class);
+    private static final ConcurrentHashMap<String, MutableCapabilities> templates = new ConcurrentHashMap<>();
+    private static final boolean LINUX = System.getProperty("os.name", "").contains("Linux");
+
+    private DriverOptionsRegistry() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static ChromeOptions chromeOptions(boolean headless, PerformanceProfile profile) {
+        return (ChromeOptions) options("chrome", headless, profile);
+    }
+
+    public static EdgeOptions edgeOptions(boolean headless, PerformanceProfile profile) {
+        return (EdgeOptions) options("edge", headless, profile);
+    }
+
+    public static FirefoxOptions firefoxOptions(boolean headless, PerformanceProfile profile) {
+        return (FirefoxOptions) options("firefox", headless, profile);
+    }
+
+    /**
+     * Get a fresh copy of the options template for the given browser
+     * Unknown browsers fall back to Chrome
+     */
+    public static MutableCapabilities options(String browser, boolean headless, PerformanceProfile profile) {
+        String normalized = normalize(browser);
+        String key = normalized + "|" + headless + "|" + profile;
+        MutableCapabilities template = templates.computeIfAbsent(key, k -> {
+            logger.debug("Building driver options template: {}", k);
+            return buildTemplate(normalized, headless, profile);
+        });
+        return template.merge(new ImmutableCapabilities());
+    }
+
+    private static MutableCapabilities buildTemplate(String browser, boolean headless, PerformanceProfile profile) {
+        switch (browser) {
+            case "firefox":
+                return buildFirefoxTemplate(headless, profile);
+            case "edge":
+                return buildChromiumTemplate(new EdgeOptions(), headless, profile);
+            case "safari":
+                return new SafariOptions();
+            default:
+                return buildChromiumTemplate(new ChromeOptions(), headless, profile);
+        }
+    }
+
+    private static <T extends ChromiumOptions<T>> T buildChromiumTemplate(T options, boolean headless,
+                                                                         PerformanceProfile profile) {
+        // Basic options
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--window-size=1920,1080");
+
+        // Privacy options
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-infobars");
+        options.addArguments("--disable-popup-blocking");
+        if (options instanceof ChromeOptions) {
+            options.addArguments("--disable-extensions");
+            options.addArguments("--disable-plugins");
+        }
+
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+
+        // Disable credential services
+        Map<String, Object> prefs = new HashMap<>();
+        prefs.put("credentials_enable_service", false);
+        prefs.put("profile.password_manager_enabled", false);
+        prefs.put("profile.default_content_setting_values.notifications", 2);
+
+        if (profile == PerformanceProfile.FAST) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+            options.addArguments("--disable-background-networking");
+            options.addArguments("--disable-component-update");
+            options.addArguments("--disable-default-apps");
+            options.addArguments("--disable-sync");
+            options.addArguments("--mute-audio");
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+
+        // A configured pageLoadStrategy is applied on top of the template and still wins
+        if (profile == PerformanceProfile.LEGACY && !LINUX) {
+            options.addArguments("--start-maximized");
+            options.addArguments(options instanceof EdgeOptions ? "-inprivate" : "--incognito");
+        } else if (profile == PerformanceProfile.LEGACY && options instanceof ChromeOptions) {
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+
+        options.setExperimentalOption("prefs", Collections.unmodifiableMap(prefs));
+        return options;
+    }
+
+    private static FirefoxOptions buildFirefoxTemplate(boolean headless, PerformanceProfile profile) {
+        FirefoxOptions options = new FirefoxOptions();
+
+        if (headless) {
+            options.addArguments("--headless");
+        }
+
+        options.addArguments("--width=1920");
+        options.addArguments("--height=1080");
+
+        if (profile == PerformanceProfile.FAST) {
+            options.addPreference("permissions.default.image", 2);
+            options.addPreference("network.prefetch-next", false);
+            options.addPreference("app.update.enabled", false);
+            options.addPreference("browser.safebrowsing.malware.enabled", false);
+            options.addPreference("browser.safebrowsing.phishing.enabled", false);
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+        return options;
+    }
+
+    private static String normalize(String browser) {
+        return browser == null ? "chrome" : browser.trim().toLowerCase();
+    }
+}
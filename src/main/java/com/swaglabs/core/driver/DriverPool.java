@@ -0,0 +1,235 @@
+package com.swaglabs.core.driver;
+
+import com.swaglabs.core.pages.PageSnapshot;
+import com.swaglabs.core.wait.WaitFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of pre-warmed WebDriver sessions
+ * Sessions are leased to tests, reset between leases and evicted after a fixed number of uses
+ */
+public class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+    private static final String RESET_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    private final Supplier<WebDriver> factory;
+    private final int minIdle;
+    private final int maxTotal;
+    private final int maxUses;
+    private final Duration leaseTimeout;
+
+    private final LinkedBlockingDeque<PooledSession> idleSessions = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+    private final Semaphore capacity;
+    private final ExecutorService warmupExecutor;
+    private volatile boolean closed = false;
+
+    public DriverPool(Supplier<WebDriver> factory, int minIdle, int maxTotal, int maxUses, Duration leaseTimeout) {
+        this.factory = factory;
+        this.maxTotal = Math.max(1, maxTotal);
+        this.minIdle = Math.max(0, Math.min(minIdle, this.maxTotal));
+        this.maxUses = Math.max(1, maxUses);
+        this.leaseTimeout = leaseTimeout;
+        this.capacity = new Semaphore(this.maxTotal, true);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.warmupExecutor = Executors.newFixedThreadPool(this.maxTotal, runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-warmup-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Launch browsers in the background until the pool holds the configured minimum of idle sessions
+     */
+    public void prewarm() {
+        int missing = minIdle - idleSessions.size();
+        logger.info("Pre-warming {} WebDriver session(s) (min-idle: {}, max-total: {})", missing, minIdle, maxTotal);
+        for (int i = 0; i < missing; i++) {
+            if (!capacity.tryAcquire()) {
+                return;
+            }
+            warmupExecutor.submit(() -> {
+                try {
+                    PooledSession session = new PooledSession(factory.get());
+                    idleSessions.offer(session);
+                    // A browser that finished starting after shutdown drained the pool is quit here instead of leaking;
+                    // remove() lets exactly one of the two sides quit it
+                    if (closed && idleSessions.remove(session)) {
+                        destroy(session);
+                    }
+                } catch (Exception e) {
+                    capacity.release();
+                    logger.warn("Failed to pre-warm WebDriver session", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Lease a healthy session, creating one if the pool has spare capacity
+     */
+    public WebDriver lease() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is closed");
+        }
+
+        long deadline = System.nanoTime() + leaseTimeout.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                PooledSession session = idleSessions.pollFirst();
+                if (session == null && capacity.tryAcquire()) {
+                    session = createSession();
+                }
+                if (session == null) {
+                    session = idleSessions.pollFirst(100, TimeUnit.MILLISECONDS);
+                }
+                if (session == null) {
+                    continue;
+                }
+                if (!isHealthy(session.driver)) {
+                    logger.warn("Evicting unhealthy WebDriver session");
+                    destroy(session);
+                    continue;
+                }
+                session.uses++;
+                leasedSessions.put(session.driver, session);
+                return session.driver;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while leasing WebDriver session", e);
+        }
+        throw new RuntimeException("No WebDriver session available within " + leaseTimeout.getSeconds() + " seconds");
+    }
+
+    /**
+     * Return a leased session to the pool, resetting its state or evicting it when worn out
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            logger.warn("Ignoring release of a WebDriver that was not leased from the pool");
+            return;
+        }
+
+        if (closed || session.uses >= maxUses || ResourceMonitor.isOverCeiling(driver) || !reset(driver)) {
+            logger.debug("Evicting WebDriver session after {} use(s)", session.uses);
+            destroy(session);
+            if (!closed) {
+                prewarm();
+            }
+            return;
+        }
+        idleSessions.offerFirst(session);
+    }
+
+    /**
+     * Check whether a driver was leased from this pool
+     */
+    public boolean owns(WebDriver driver) {
+        return driver != null && leasedSessions.containsKey(driver);
+    }
+
+    /**
+     * Number of sessions currently leased out
+     */
+    public int getLeasedCount() {
+        return leasedSessions.size();
+    }
+
+    /**
+     * Number of warm sessions waiting in the pool
+     */
+    public int getIdleCount() {
+        return idleSessions.size();
+    }
+
+    /**
+     * Quit every pooled session and stop the warm-up executor
+     */
+    public void shutdown() {
+        closed = true;
+        warmupExecutor.shutdownNow();
+        PooledSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            destroy(session);
+        }
+        leasedSessions.values().forEach(this::destroy);
+        leasedSessions.clear();
+        logger.info("Driver pool shut down");
+    }
+
+    private PooledSession createSession() {
+        try {
+            return new PooledSession(factory.get());
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean reset(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(RESET_STORAGE_SCRIPT);
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            PageSnapshot.invalidate(driver);
+            NetworkEmulator.apply(driver, NetworkProfile.NONE);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to reset WebDriver session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(PooledSession session) {
+        try {
+            RequestBlocker.detach(session.driver);
+            ScreencastRecorder.detach(session.driver);
+            ResourceMonitor.untrack(session.driver);
+            WaitFactory.detach(session.driver);
+            PageSnapshot.detach(session.driver);
+            session.driver.quit();
+        } catch (Exception e) {
+            logger.warn("Error while quitting pooled WebDriver", e);
+        } finally {
+            capacity.release();
+        }
+    }
+
+    /* ===================== Inner Class ===================== */
+
+    private static class PooledSession {
+        private final WebDriver driver;
+        private int uses;
+
+        PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
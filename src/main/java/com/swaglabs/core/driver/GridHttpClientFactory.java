@@ -0,0 +1,86 @@
+package com.swaglabs.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * HTTP client factory that shares one keep-alive client per grid endpoint
+ * Every RemoteWebDriver session talking to the same grid reuses the same connection pool
+ */
+public class GridHttpClientFactory implements HttpClient.Factory {
+    private static final Logger logger = LogManager.getLogger(GridHttpClientFactory.class);
+
+    private final HttpClient.Factory delegate = new JdkHttpClient.Factory();
+    private final ConcurrentHashMap<URI, SharedHttpClient> clients = new ConcurrentHashMap<>();
+    private final int maxConnectionsPerRoute;
+
+    public GridHttpClientFactory(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = Math.max(1, maxConnectionsPerRoute);
+    }
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        return clients.computeIfAbsent(config.baseUri(), uri -> {
+            logger.info("Creating shared HTTP client for grid: {} (max connections: {})", uri, maxConnectionsPerRoute);
+            return new SharedHttpClient(delegate.createClient(config), maxConnectionsPerRoute);
+        });
+    }
+
+    /**
+     * Close every shared client, ending all pooled connections
+     */
+    public void shutdown() {
+        clients.values().forEach(SharedHttpClient::closeDelegate);
+        clients.clear();
+    }
+
+    /* ===================== Inner Class ===================== */
+
+    /**
+     * Client handed to each session; closing it leaves the shared connections open for other sessions
+     */
+    private static class SharedHttpClient implements HttpClient {
+        private final HttpClient delegate;
+        private final Semaphore connections;
+
+        SharedHttpClient(HttpClient delegate, int maxConnections) {
+            this.delegate = delegate;
+            this.connections = new Semaphore(maxConnections, true);
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws UncheckedIOException {
+            connections.acquireUninterruptibly();
+            try {
+                return delegate.execute(request);
+            } finally {
+                connections.release();
+            }
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            // Shared across sessions, closed only through GridHttpClientFactory.shutdown()
+        }
+
+        void closeDelegate() {
+            delegate.close();
+        }
+    }
+}
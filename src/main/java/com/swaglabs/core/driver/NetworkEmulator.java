@@ -0,0 +1,60 @@
+package com.swaglabs.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Applies network emulation to Chromium sessions through the DevTools protocol
+ */
+public class NetworkEmulator {
+    private static final Logger logger = LogManager.getLogger(NetworkEmulator.class);
+
+    private NetworkEmulator() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Emulate a predefined network profile
+     */
+    public static void apply(WebDriver driver, NetworkProfile profile) {
+        apply(driver, profile.isOffline(), profile.getLatencyMillis(),
+                profile.getDownloadKbps(), profile.getUploadKbps());
+    }
+
+    /**
+     * Emulate the given latency and throughput (kilobits per second, -1 for unthrottled)
+     */
+    public static void apply(WebDriver driver, boolean offline, long latencyMillis, long downloadKbps, long uploadKbps) {
+        driver = DevToolsTarget.of(driver);
+        if (!(driver instanceof HasCdp)) {
+            logger.debug("Network emulation is only supported on Chromium based sessions");
+            return;
+        }
+
+        Map<String, Object> conditions = new HashMap<>();
+        conditions.put("offline", offline);
+        conditions.put("latency", latencyMillis);
+        conditions.put("downloadThroughput", toBytesPerSecond(downloadKbps));
+        conditions.put("uploadThroughput", toBytesPerSecond(uploadKbps));
+
+        try {
+            HasCdp cdp = (HasCdp) driver;
+            cdp.executeCdpCommand("Network.enable", Collections.emptyMap());
+            cdp.executeCdpCommand("Network.emulateNetworkConditions", conditions);
+            logger.info("Applied network emulation: offline={}, latency={} ms, down={} kbps, up={} kbps",
+                    offline, latencyMillis, downloadKbps, uploadKbps);
+        } catch (Exception e) {
+            logger.warn("Failed to apply network emulation: {}", e.getMessage());
+        }
+    }
+
+    private static long toBytesPerSecond(long kbps) {
+        return kbps < 0 ? -1 : kbps * 1024 / 8;
+    }
+}
@@ -0,0 +1,53 @@
+package com.swaglabs.core.driver;
+
+/**
+ * Network conditions emulated through Chrome DevTools
+ * Throughput values are in kilobits per second, -1 meaning unthrottled
+ */
+public enum NetworkProfile {
+    NONE(false, 0, -1, -1),
+    OFFLINE(true, 0, 0, 0),
+    SLOW_3G(false, 400, 400, 400),
+    FAST_3G(false, 150, 1600, 750),
+    SLOW_4G(false, 80, 4000, 3000),
+    CUSTOM(false, 0, -1, -1);
+
+    private final boolean offline;
+    private final long latencyMillis;
+    private final long downloadKbps;
+    private final long uploadKbps;
+
+    NetworkProfile(boolean offline, long latencyMillis, long downloadKbps, long uploadKbps) {
+        this.offline = offline;
+        this.latencyMillis = latencyMillis;
+        this.downloadKbps = downloadKbps;
+        this.uploadKbps = uploadKbps;
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public long getDownloadKbps() {
+        return downloadKbps;
+    }
+
+    public long getUploadKbps() {
+        return uploadKbps;
+    }
+
+    public static NetworkProfile fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return NONE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            return NONE;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.swaglabs.core.driver;
+
+/**
+ * Browser performance profiles applied on top of the baseline driver options
+ */
+public enum PerformanceProfile {
+    /**
+     * Baseline options, full page rendering
+     */
+    DEFAULT,
+
+    /**
+     * Images and background networking disabled, eager page-load strategy
+     */
+    FAST,
+
+    /**
+     * Baseline options plus the platform defaults of the original suite factory: maximized private windows on
+     * Windows and macOS, eager page-load strategy for Chrome on Linux
+     */
+    LEGACY;
+
+    public static PerformanceProfile fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return DEFAULT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return DEFAULT;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.swaglabs.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocks requests matching configured URL patterns through Chrome DevTools
+ * Keeps per-session counters of blocked requests and transferred bytes
+ */
+public class RequestBlocker {
+    private static final Logger logger = LogManager.getLogger(RequestBlocker.class);
+    private static final String BLOCKED_REASON = "inspector";
+
+    private static final ConcurrentHashMap<WebDriver, TrafficStats> sessionStats = new ConcurrentHashMap<>();
+
+    private RequestBlocker() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Enable URL blocking on a session; non-Chromium sessions are left untouched
+     */
+    public static void attach(WebDriver driver, List<String> patterns) {
+        if (patterns == null || patterns.isEmpty()) {
+            return;
+        }
+        driver = DevToolsTarget.of(driver);
+        if (!(driver instanceof HasDevTools)) {
+            logger.debug("Request blocking is only supported on DevTools enabled sessions");
+            return;
+        }
+
+        try {
+            Optional<DevTools> maybeDevTools = ((HasDevTools) driver).maybeGetDevTools();
+            if (!maybeDevTools.isPresent()) {
+                logger.debug("DevTools is not available for this session, request blocking skipped");
+                return;
+            }
+            DevTools devTools = maybeDevTools.get();
+            devTools.createSessionIfThereIsNotOne();
+
+            TrafficStats stats = new TrafficStats();
+            devTools.addListener(new Event<>("Network.loadingFailed", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                    event -> {
+                        if (BLOCKED_REASON.equals(event.get("blockedReason"))) {
+                            stats.blockedRequests.incrementAndGet();
+                        }
+                    });
+            devTools.addListener(new Event<>("Network.loadingFinished", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                    event -> {
+                        stats.loadedRequests.incrementAndGet();
+                        Object length = event.get("encodedDataLength");
+                        if (length instanceof Number) {
+                            stats.loadedBytes.addAndGet(((Number) length).longValue());
+                        }
+                    });
+
+            devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+            devTools.send(new Command<Void>("Network.setBlockedURLs", Collections.singletonMap("urls", patterns)));
+            sessionStats.put(driver, stats);
+            logger.info("Blocking {} URL pattern(s) for session", patterns.size());
+        } catch (Exception e) {
+            logger.warn("Failed to enable request blocking: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Return the counters accumulated since the previous call and reset them
+     */
+    public static TrafficSnapshot drainStats(WebDriver driver) {
+        TrafficStats stats = driver == null ? null : sessionStats.get(DevToolsTarget.of(driver));
+        if (stats == null) {
+            return TrafficSnapshot.EMPTY;
+        }
+        return new TrafficSnapshot(stats.blockedRequests.getAndSet(0),
+                stats.loadedRequests.getAndSet(0),
+                stats.loadedBytes.getAndSet(0));
+    }
+
+    /**
+     * Forget the counters of a session that is being quit
+     */
+    public static void detach(WebDriver driver) {
+        if (driver != null) {
+            sessionStats.remove(DevToolsTarget.of(driver));
+        }
+    }
+
+    /* ===================== Inner Classes ===================== */
+
+    private static class TrafficStats {
+        private final AtomicLong blockedRequests = new AtomicLong();
+        private final AtomicLong loadedRequests = new AtomicLong();
+        private final AtomicLong loadedBytes = new AtomicLong();
+    }
+
+    /**
+     * Immutable view of a session's traffic counters
+     */
+    public static class TrafficSnapshot {
+        public static final TrafficSnapshot EMPTY = new TrafficSnapshot(0, 0, 0);
+
+        private final long blockedRequests;
+        private final long loadedRequests;
+        private final long loadedBytes;
+
+        TrafficSnapshot(long blockedRequests, long loadedRequests, long loadedBytes) {
+            this.blockedRequests = blockedRequests;
+            this.loadedRequests = loadedRequests;
+            this.loadedBytes = loadedBytes;
+        }
+
+        public long getBlockedRequests() {
+            return blockedRequests;
+        }
+
+        public long getLoadedRequests() {
+            return loadedRequests;
+        }
+
+        public long getLoadedBytes() {
+            return loadedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "Blocked requests: " + blockedRequests +
+                    "\nLoaded requests: " + loadedRequests +
+                    "\nLoaded bytes: " + loadedBytes;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.swaglabs.core.driver;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Samples resident memory and CPU time of each local session's driver process tree from /proc
+ * Sessions that cross the configured memory ceiling are flagged so DriverManager can recycle them
+ */
+public class ResourceMonitor {
+    private static final Logger logger = LogManager.getLogger(ResourceMonitor.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final Path PROC = Paths.get("/proc");
+
+    private static final ConcurrentHashMap<WebDriver, TrackedSession> sessions = new ConcurrentHashMap<>();
+    private static volatile ScheduledExecutorService sampler;
+
+    private ResourceMonitor() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Start sampling the process tree of the driver service backing a local session
+     */
+    public static void track(WebDriver driver, DriverService service) {
+        if (!config.isResourceMonitorEnabled() || !Files.isDirectory(PROC)) {
+            return;
+        }
+
+        Optional<ProcessHandle> process = findServiceProcess(service);
+        if (!process.isPresent()) {
+            logger.debug("Driver service process not found, resource monitoring skipped");
+            return;
+        }
+        sessions.put(driver, new TrackedSession(process.get()));
+        ensureSamplerStarted();
+        logger.debug("Monitoring driver process {} and its browser processes", process.get().pid());
+    }
+
+    /**
+     * Stop sampling a session that is being quit
+     */
+    public static void untrack(WebDriver driver) {
+        if (driver != null) {
+            sessions.remove(driver);
+        }
+    }
+
+    /**
+     * Check whether a session's process tree went above the configured memory ceiling
+     */
+    public static boolean isOverCeiling(WebDriver driver) {
+        TrackedSession session = driver == null ? null : sessions.get(driver);
+        return session != null && session.overCeiling;
+    }
+
+    /**
+     * Return the usage sampled since the previous call and start a new window
+     */
+    public static ResourceSnapshot drainStats(WebDriver driver) {
+        TrackedSession session = driver == null ? null : sessions.get(driver);
+        return session == null ? ResourceSnapshot.EMPTY : session.drain();
+    }
+
+    private static Optional<ProcessHandle> findServiceProcess(DriverService service) {
+        try {
+            String portArgument = "--port=" + service.getUrl().getPort();
+            return ProcessHandle.current().children()
+                    .filter(child -> child.info().arguments()
+                            .map(arguments -> List.of(arguments).contains(portArgument))
+                            .orElse(false))
+                    .findFirst();
+        } catch (Exception e) {
+            logger.debug("Unable to locate driver service process: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void ensureSamplerStarted() {
+        if (sampler == null) {
+            synchronized (ResourceMonitor.class) {
+                if (sampler == null) {
+                    long interval = Math.max(100, config.getResourceSampleIntervalMillis());
+                    sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "browser-resource-monitor");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    sampler.scheduleAtFixedRate(ResourceMonitor::sampleAll, 0, interval, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    private static void sampleAll() {
+        long ceilingBytes = config.getSessionMemoryCeilingMb() * 1024L * 1024L;
+        sessions.forEach((driver, session) -> {
+            try {
+                session.sample(ceilingBytes);
+            } catch (Exception e) {
+                logger.debug("Resource sampling failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    // Asks getconf once; 100 is the USER_HZ of mainstream Linux kernels when it is unavailable
+    private static long readClockTicksPerSecond() {
+        try {
+            Process process = new ProcessBuilder("getconf", "CLK_TCK").redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.US_ASCII).trim();
+            if (process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0) {
+                long ticks = Long.parseLong(output);
+                if (ticks > 0) {
+                    return ticks;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("getconf CLK_TCK unavailable: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 100;
+    }
+
+    private static long[] readProcessUsage(long pid) {
+        Path dir = PROC.resolve(String.valueOf(pid));
+        try {
+            long rssBytes = 0;
+            for (String line : Files.readAllLines(dir.resolve("status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    rssBytes = Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024L;
+                    break;
+                }
+            }
+            String stat = new String(Files.readAllBytes(dir.resolve("stat")));
+            // Fields after the parenthesised command name start at field 3 (state); utime and stime are fields 14 and 15
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            long cpuTicks = Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+            return new long[] {rssBytes, cpuTicks};
+        } catch (IOException | RuntimeException e) {
+            // The process exited between listing and reading
+            return new long[] {0, 0};
+        }
+    }
+
+    /* ===================== Inner Classes ===================== */
+
+    // USER_HZ of the kernel, which /proc/<pid>/stat CPU times are counted in; resolved on first use only
+    private static final class ClockTicks {
+        private static final long PER_SECOND = readClockTicksPerSecond();
+    }
+
+    private static class TrackedSession {
+        private final ProcessHandle root;
+        private volatile boolean overCeiling;
+        private long lastCpuTicks = -1;
+        private long windowCpuTicks;
+        private long windowPeakRss;
+        private long windowRssSum;
+        private int windowSamples;
+
+        TrackedSession(ProcessHandle root) {
+            this.root = root;
+        }
+
+        synchronized void sample(long ceilingBytes) {
+            if (!root.isAlive()) {
+                return;
+            }
+            long rss = 0;
+            long cpu = 0;
+            try (Stream<ProcessHandle> tree = Stream.concat(Stream.of(root), root.descendants())) {
+                for (ProcessHandle process : (Iterable<ProcessHandle>) tree::iterator) {
+                    long[] usage = readProcessUsage(process.pid());
+                    rss += usage[0];
+                    cpu += usage[1];
+                }
+            }
+
+            if (lastCpuTicks >= 0) {
+                windowCpuTicks += Math.max(0, cpu - lastCpuTicks);
+            }
+            lastCpuTicks = cpu;
+            windowPeakRss = Math.max(windowPeakRss, rss);
+            windowRssSum += rss;
+            windowSamples++;
+
+            if (ceilingBytes > 0 && rss > ceilingBytes && !overCeiling) {
+                overCeiling = true;
+                logger.warn("Session process tree uses {} MB, above the {} MB ceiling; it will be recycled",
+                        rss / (1024 * 1024), ceilingBytes / (1024 * 1024));
+            }
+        }
+
+        synchronized ResourceSnapshot drain() {
+            ResourceSnapshot snapshot = new ResourceSnapshot(windowPeakRss,
+                    windowSamples == 0 ? 0 : windowRssSum / windowSamples,
+                    windowCpuTicks * 1000 / ClockTicks.PER_SECOND,
+                    windowSamples);
+            windowCpuTicks = 0;
+            windowPeakRss = 0;
+            windowRssSum = 0;
+            windowSamples = 0;
+            return snapshot;
+        }
+    }
+
+    /**
+     * Memory and CPU usage of a session's process tree over one sampling window
+     */
+    public static class ResourceSnapshot {
+        public static final ResourceSnapshot EMPTY = new ResourceSnapshot(0, 0, 0, 0);
+
+        private final long peakRssBytes;
+        private final long averageRssBytes;
+        private final long cpuMillis;
+        private final int samples;
+
+        ResourceSnapshot(long peakRssBytes, long averageRssBytes, long cpuMillis, int samples) {
+            this.peakRssBytes = peakRssBytes;
+            this.averageRssBytes = averageRssBytes;
+            this.cpuMillis = cpuMillis;
+            this.samples = samples;
+        }
+
+        public long getPeakRssBytes() {
+            return peakRssBytes;
+        }
+
+        public long getAverageRssBytes() {
+            return averageRssBytes;
+        }
+
+        public long getCpuMillis() {
+            return cpuMillis;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        @Override
+        public String toString() {
+            return "Peak RSS: " + peakRssBytes / (1024 * 1024) + " MB" +
+                    "\nAverage RSS: " + averageRssBytes / (1024 * 1024) + " MB" +
+                    "\nCPU time: " + cpuMillis + " ms" +
+                    "\nSamples: " + samples;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.swaglabs.core.driver;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import com.swaglabs.core.utils.MjpegAviWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Records Chromium sessions through the DevTools screencast into a bounded in-memory ring buffer
+ * Only the last videoBufferSeconds are kept; frames become a video only when a test asks for one, usually on failure
+ */
+public class ScreencastRecorder {
+    private static final Logger logger = LogManager.getLogger(ScreencastRecorder.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    // The screencast only sends frames when the page changes; the video repeats frames to this constant rate
+    private static final int FRAMES_PER_SECOND = 10;
+
+    private static final ConcurrentHashMap<WebDriver, Recording> recordings = new ConcurrentHashMap<>();
+    // Acknowledgements are sent off the DevTools event thread, which must not block on a command response
+    private static final ExecutorService acknowledger = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "screencast-ack");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ScreencastRecorder() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Start recording a session when video recording is enabled; non-Chromium sessions are left untouched
+     */
+    public static void attach(WebDriver driver) {
+        if (!config.isVideoRecordingEnabled()) {
+            return;
+        }
+        driver = DevToolsTarget.of(driver);
+        if (!(driver instanceof HasDevTools)) {
+            logger.debug("Video recording is only supported on DevTools enabled sessions");
+            return;
+        }
+
+        try {
+            Optional<DevTools> maybeDevTools = ((HasDevTools) driver).maybeGetDevTools();
+            if (!maybeDevTools.isPresent()) {
+                logger.debug("DevTools is not available for this session, video recording skipped");
+                return;
+            }
+            DevTools devTools = maybeDevTools.get();
+            devTools.createSessionIfThereIsNotOne();
+
+            Recording recording = new Recording(config.getVideoBufferSeconds() * 1000L,
+                    config.getVideoBufferMb() * 1024L * 1024L);
+            devTools.addListener(new Event<>("Page.screencastFrame", input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                    event -> {
+                        Object sessionId = event.get("sessionId");
+                        // The browser sends the next frame only once this one is acknowledged
+                        acknowledger.execute(() -> acknowledge(devTools, sessionId));
+                        recording.add(frameTimestamp(event), Base64.getDecoder().decode(String.valueOf(event.get("data"))));
+                    });
+
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("format", "jpeg");
+            parameters.put("quality", config.getVideoFrameQuality());
+            parameters.put("maxWidth", config.getVideoMaxWidth());
+            parameters.put("maxHeight", config.getVideoMaxHeight());
+            parameters.put("everyNthFrame", 1);
+            devTools.send(new Command<Void>("Page.startScreencast", parameters));
+            recordings.put(driver, recording);
+            logger.info("Recording the last {} s of the session", config.getVideoBufferSeconds());
+        } catch (Exception e) {
+            logger.warn("Failed to start video recording: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drop the buffered frames, typically when a test starts or passes
+     */
+    public static void discard(WebDriver driver) {
+        Recording recording = driver == null ? null : recordings.get(DevToolsTarget.of(driver));
+        if (recording != null) {
+            recording.clear();
+        }
+    }
+
+    /**
+     * Encode the buffered frames as a Motion-JPEG AVI and empty the buffer; an empty array when nothing was recorded
+     */
+    public static byte[] encodeRecording(WebDriver driver) {
+        Recording recording = driver == null ? null : recordings.get(DevToolsTarget.of(driver));
+        if (recording == null) {
+            return new byte[0];
+        }
+        List<Frame> frames = recording.drain();
+        if (frames.isEmpty()) {
+            return new byte[0];
+        }
+
+        // Each slot shows the newest frame captured by its time; unchanged slots repeat the previous image
+        long start = frames.get(0).timestampMillis;
+        long end = frames.get(frames.size() - 1).timestampMillis;
+        long slotMillis = 1000 / FRAMES_PER_SECOND;
+        List<byte[]> timeline = new ArrayList<>();
+        int next = 0;
+        for (long slot = start; slot <= end + slotMillis; slot += slotMillis) {
+            int shown = next;
+            while (next < frames.size() && frames.get(next).timestampMillis <= slot) {
+                next++;
+            }
+            timeline.add(next > shown ? frames.get(next - 1).jpeg : null);
+        }
+
+        try {
+            BufferedImage first = ImageIO.read(new ByteArrayInputStream(frames.get(0).jpeg));
+            int width = first == null ? config.getVideoMaxWidth() : first.getWidth();
+            int height = first == null ? config.getVideoMaxHeight() : first.getHeight();
+            byte[] video = MjpegAviWriter.write(timeline, FRAMES_PER_SECOND, width, height);
+            logger.info("Encoded {} frames covering {} ms into a {} KB video", frames.size(), end - start,
+                    video.length / 1024);
+            return video;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to encode video recording: {}", e.getMessage());
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Forget the recording of a session that is being quit
+     */
+    public static void detach(WebDriver driver) {
+        if (driver != null) {
+            recordings.remove(DevToolsTarget.of(driver));
+        }
+    }
+
+    private static void acknowledge(DevTools devTools, Object sessionId) {
+        try {
+            devTools.send(new Command<Void>("Page.screencastFrameAck", Collections.singletonMap("sessionId", sessionId)));
+        } catch (Exception e) {
+            logger.debug("Screencast frame not acknowledged: {}", e.getMessage());
+        }
+    }
+
+    private static long frameTimestamp(Map<String, Object> event) {
+        Object metadata = event.get("metadata");
+        if (metadata instanceof Map) {
+            Object timestamp = ((Map<?, ?>) metadata).get("timestamp");
+            if (timestamp instanceof Number) {
+                return (long) (((Number) timestamp).doubleValue() * 1000);
+            }
+        }
+        return System.currentTimeMillis();
+    }
+
+    /* ===================== Inner Classes ===================== */
+
+    private static class Frame {
+        private final long timestampMillis;
+        private final byte[] jpeg;
+
+        Frame(long timestampMillis, byte[] jpeg) {
+            this.timestampMillis = timestampMillis;
+            this.jpeg = jpeg;
+        }
+    }
+
+    private static class Recording {
+        private final long windowMillis;
+        private final long maxBytes;
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private long bytes;
+
+        Recording(long windowMillis, long maxBytes) {
+            this.windowMillis = windowMillis;
+            this.maxBytes = maxBytes;
+        }
+
+        // The newest frame always stays, even when it alone exceeds the byte cap
+        synchronized void add(long timestampMillis, byte[] jpeg) {
+            frames.addLast(new Frame(timestampMillis, jpeg));
+            bytes += jpeg.length;
+            while (frames.size() > 1 && (timestampMillis - frames.peekFirst().timestampMillis > windowMillis
+                    || bytes > maxBytes)) {
+                bytes -= frames.removeFirst().jpeg.length;
+            }
+        }
+
+        synchronized void clear() {
+            frames.clear();
+            bytes = 0;
+        }
+
+        synchronized List<Frame> drain() {
+            List<Frame> drained = new ArrayList<>(frames);
+            clear();
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.swaglabs.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Registry of live WebDriver sessions keyed by opaque session handles
+ * A session is leased while a test uses it; a daemon reaper disposes sessions left unleased beyond the idle TTL
+ */
+public class SessionRegistry {
+    private static final Logger logger = LogManager.getLogger(SessionRegistry.class);
+    private static final AtomicLong handleSequence = new AtomicLong();
+
+    private final ConcurrentHashMap<Object, SessionHandle> bindings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<SessionHandle, Session> sessions = new ConcurrentHashMap<>();
+    private final Consumer<WebDriver> disposer;
+    private final long idleTtlNanos;
+    private final long reaperIntervalSeconds;
+    // Started with the first session and stopped by shutdown; guarded by this
+    private ScheduledExecutorService reaper;
+
+    public SessionRegistry(Consumer<WebDriver> disposer, Duration idleTtl, Duration reaperInterval) {
+        this.disposer = disposer;
+        this.idleTtlNanos = idleTtl.toNanos();
+        this.reaperIntervalSeconds = Math.max(1, reaperInterval.getSeconds());
+    }
+
+    /**
+     * Bind a driver to a scope key as a leased session, returning its handle
+     * A different driver previously bound to the key is disposed
+     */
+    public SessionHandle register(Object scopeKey, WebDriver driver) {
+        startReaper();
+        SessionHandle handle = new SessionHandle(handleSequence.incrementAndGet());
+        sessions.put(handle, new Session(scopeKey, driver));
+        SessionHandle previous = bindings.put(scopeKey, handle);
+        Session replaced = previous != null ? sessions.remove(previous) : null;
+        if (replaced != null && replaced.driver != driver) {
+            logger.warn("Scope {} registered a new WebDriver, disposing {}", scopeKey, previous);
+            dispose(previous, replaced);
+        }
+        return handle;
+    }
+
+    /**
+     * Get the driver bound to a scope key without changing its lease
+     */
+    public WebDriver lookup(Object scopeKey) {
+        Session session = find(scopeKey);
+        return session != null ? session.driver : null;
+    }
+
+    /**
+     * Get the driver bound to a scope key and mark it as in use, so the reaper leaves it alone
+     */
+    public WebDriver lease(Object scopeKey) {
+        Session session = find(scopeKey);
+        if (session == null) {
+            return null;
+        }
+        session.lease();
+        return session.driver;
+    }
+
+    /**
+     * Mark the session of a scope key as no longer in use; its idle time counts from now
+     */
+    public void release(Object scopeKey) {
+        Session session = find(scopeKey);
+        if (session != null) {
+            session.release();
+        }
+    }
+
+    /**
+     * Remove the binding of a scope key and return its driver without quitting it
+     */
+    public WebDriver unregister(Object scopeKey) {
+        SessionHandle handle = bindings.remove(scopeKey);
+        Session session = handle != null ? sessions.remove(handle) : null;
+        return session != null ? session.driver : null;
+    }
+
+    /**
+     * Remove every session and return their drivers without quitting them
+     */
+    public List<WebDriver> unregisterAll() {
+        List<WebDriver> drivers = new ArrayList<>();
+        for (SessionHandle handle : new ArrayList<>(sessions.keySet())) {
+            Session session = sessions.remove(handle);
+            if (session != null) {
+                bindings.remove(session.scopeKey, handle);
+                drivers.add(session.driver);
+            }
+        }
+        return drivers;
+    }
+
+    /**
+     * Number of registered sessions
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Stop the reaper thread; a later registration starts a new one
+     */
+    public synchronized void shutdown() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+            reaper = null;
+        }
+    }
+
+    private synchronized void startReaper() {
+        if (reaper == null) {
+            reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "driver-session-reaper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            reaper.scheduleWithFixedDelay(this::reapOrphans, reaperIntervalSeconds, reaperIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    private Session find(Object scopeKey) {
+        SessionHandle handle = bindings.get(scopeKey);
+        return handle != null ? sessions.get(handle) : null;
+    }
+
+    private void reapOrphans() {
+        long now = System.nanoTime();
+        sessions.forEach((handle, session) -> {
+            if (!session.isIdle(now, idleTtlNanos) || !sessions.remove(handle, session)) {
+                return;
+            }
+            bindings.remove(session.scopeKey, handle);
+            logger.warn("Reaping orphaned WebDriver {} (unleased for more than {} seconds)",
+                    handle, TimeUnit.NANOSECONDS.toSeconds(idleTtlNanos));
+            dispose(handle, session);
+        });
+    }
+
+    private void dispose(SessionHandle handle, Session session) {
+        try {
+            disposer.accept(session.driver);
+        } catch (Exception e) {
+            logger.warn("Error while disposing WebDriver {}", handle, e);
+        }
+    }
+
+    /* ===================== Inner Classes ===================== */
+
+    /**
+     * Opaque identifier of a registered session
+     */
+    public static final class SessionHandle {
+        private final long id;
+
+        private SessionHandle(long id) {
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return "session-" + id;
+        }
+    }
+
+    // Sessions follow scope keys across threads, so idleness is tracked by lease rather than by owner thread
+    private static class Session {
+        private final Object scopeKey;
+        private final WebDriver driver;
+        private volatile boolean leased = true;
+        private volatile long releasedAtNanos;
+
+        Session(Object scopeKey, WebDriver driver) {
+            this.scopeKey = scopeKey;
+            this.driver = driver;
+        }
+
+        void lease() {
+            leased = true;
+        }
+
+        void release() {
+            releasedAtNanos = System.nanoTime();
+            leased = false;
+        }
+
+        boolean isIdle(long now, long idleTtlNanos) {
+            return !leased && now - releasedAtNanos > idleTtlNanos;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.swaglabs.core.driver;
+
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.xml.XmlSuite;
+
+import java.util.Objects;
+
+/**
+ * Resolves the key a WebDriver session is bound to for the running test
+ * Sessions follow the TestNG test and class instance rather than the worker thread, so they survive virtual-thread scheduling
+ * Under parallel="methods" several methods of one instance run at once, so the worker thread joins the key
+ */
+public final class SessionScope {
+
+    private SessionScope() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get the binding key for the caller, falling back to the current thread outside a TestNG invocation
+     */
+    public static Object currentKey() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result != null ? of(result) : Thread.currentThread();
+    }
+
+    /**
+     * Get the binding key of a specific test result, looked up on the thread running it
+     */
+    public static Object of(ITestResult result) {
+        ITestContext context = result.getTestContext();
+        String testName = context != null ? context.getName() : "";
+        Object instance = result.getInstance();
+        Thread thread = isParallelMethods(context) ? Thread.currentThread() : null;
+        return new Key(testName, instance != null ? instance : result.getTestClass().getRealClass(), thread);
+    }
+
+    private static boolean isParallelMethods(ITestContext context) {
+        return context != null && context.getCurrentXmlTest() != null
+                && context.getCurrentXmlTest().getParallel() == XmlSuite.ParallelMode.METHODS;
+    }
+
+    /* ===================== Inner Class ===================== */
+
+    private static final class Key {
+        private final String testName;
+        private final Object owner;
+        // Null unless methods of the same instance run in parallel
+        private final Thread thread;
+
+        Key(String testName, Object owner, Thread thread) {
+            this.testName = testName;
+            this.owner = owner;
+            this.thread = thread;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return testName.equals(key.testName) && owner == key.owner && thread == key.thread;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(testName, System.identityHashCode(owner), thread);
+        }
+
+        @Override
+        public String toString() {
+            String key = testName + "@" + Integer.toHexString(System.identityHashCode(owner));
+            return thread != null ? key + "/" + thread.getName() : key;
+        }
+    }
+}
@@ -1,212 +1,297 @@
-package com.swaglabs.core.listeners;
-
-import java.lang.reflect.Field;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.concurrent.ConcurrentHashMap;
-
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.WebDriver;
-import org.testng.ITestContext;
-import org.testng.ITestResult;
-import org.testng.TestListenerAdapter;
-
-import com.swaglabs.core.config.ConfigurationManager;
-import com.swaglabs.core.driver.DriverManager;
-
-import io.qameta.allure.Allure;
-import io.qameta.allure.Attachment;
-
-/**
- * Enterprise-level TestNG Listener with Allure integration
- */
-public class TestListener extends TestListenerAdapter {
-
-    private static final Logger logger = LogManager.getLogger(TestListener.class);
-    private static final ConfigurationManager config = ConfigurationManager.getInstance();
-    private static final DateTimeFormatter TIMESTAMP =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-    private static final ConcurrentHashMap<String, TestExecutionData> executionData =
-            new ConcurrentHashMap<>();
-
-    @Override
-    public void onTestStart(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        String className = result.getTestClass().getRealClass().getSimpleName();
-
-        logger.info("🚀 STARTING TEST: {}.{}", className, testName);
-        executionData.put(testName, new TestExecutionData(testName, className));
-
-        addTestMetadata(result);
-        addEnvironmentInfo();
-    }
-
-    @Override
-    public void onTestSuccess(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        long time = getExecutionTime(testName);
-
-        logger.info("✅ PASSED: {} ({} ms)", testName, time);
-
-		/*
-		 * if (config.isEnableScreenshotOnSuccess()) { captureScreenshot(result); }
-		 */
-
-        addSuccessDetails(result, time);
-        executionData.remove(testName);
-    }
-
-    @Override
-    public void onTestFailure(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        long time = getExecutionTime(testName);
-
-        logger.error("❌ FAILED: {} ({} ms)", testName, time, result.getThrowable());
-
-        captureScreenshot(result);
-        addFailureDetails(result, time, result.getThrowable());
-        attachPageSource(result);
-
-        executionData.remove(testName);
-    }
-
-    @Override
-    public void onTestSkipped(ITestResult result) {
-        logger.warn("⏭️ SKIPPED: {}", result.getMethod().getMethodName());
-        addSkipDetails(result);
-        executionData.remove(result.getMethod().getMethodName());
-    }
-
-    @Override
-    public void onStart(ITestContext context) {
-        logger.info("🎯 TEST SUITE STARTED: {}", context.getName());
-        addSuiteInfo(context);
-    }
-
-    @Override
-    public void onFinish(ITestContext context) {
-        logger.info("🏁 TEST SUITE FINISHED: {}", context.getName());
-        logExecutionSummary(context);
-        addSuiteSummary(context);
-    }
-
-    /* ===================== Helpers ===================== */
-
-    private long getExecutionTime(String testName) {
-        TestExecutionData data = executionData.get(testName);
-        return data == null ? 0 : data.getExecutionTime();
-    }
-
-    @Attachment(value = "Screenshot", type = "image/png")
-    private byte[] captureScreenshot(ITestResult result) {
-        try {
-            WebDriver driver = getDriver(result);
-            if (driver instanceof TakesScreenshot) {
-                return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-            }
-        } catch (Exception e) {
-            logger.warn("Screenshot capture failed", e);
-        }
-        return new byte[0];
-    }
-
-    @Attachment(value = "Page Source", type = "text/html")
-    private String attachPageSource(ITestResult result) {
-        try {
-            WebDriver driver = getDriver(result);
-            return driver != null ? driver.getPageSource() : "No Page Source";
-        } catch (Exception e) {
-            return "Page Source Not Available";
-        }
-    }
-
-    private WebDriver getDriver(ITestResult result) {
-        try {
-            Object instance = result.getInstance();
-            if (instance != null) {
-                Field field = instance.getClass().getDeclaredField("driver");
-                field.setAccessible(true);
-                return (WebDriver) field.get(instance);
-            }
-        } catch (Exception ignored) {}
-        return DriverManager.getDriver();
-    }
-
-    private void addTestMetadata(ITestResult result) {
-        Allure.getLifecycle().updateTestCase(tc -> {
-            tc.setName(result.getMethod().getMethodName());
-            tc.setFullName(
-                result.getTestClass().getRealClass().getSimpleName() + "." +
-                result.getMethod().getMethodName()
-            );
-        });
-    }
-
-    private void addEnvironmentInfo() {
-        String info = String.format(
-                "Env: %s%nBrowser: %s%nHeadless: %s%nBaseURL: %s%nTime: %s",
-                System.getProperty("env", "qa"),
-                config.getBrowser(),
-                config.isHeadless(),
-                config.getBaseUrl(),
-                LocalDateTime.now().format(TIMESTAMP)
-        );
-        Allure.addAttachment("Environment Info", info);
-    }
-
-    private void addSuccessDetails(ITestResult result, long time) {
-        Allure.addAttachment("Success Details",
-                "Test: " + result.getMethod().getMethodName() +
-                "\nExecution Time: " + time + " ms");
-    }
-
-    private void addFailureDetails(ITestResult result, long time, Throwable t) {
-        Allure.addAttachment("Failure Details",
-                "Test: " + result.getMethod().getMethodName() +
-                "\nExecution Time: " + time + " ms\nError: " +
-                (t != null ? t.getMessage() : "Unknown"));
-    }
-
-    private void addSkipDetails(ITestResult result) {
-        Allure.addAttachment("Skipped Test",
-                "Test: " + result.getMethod().getMethodName());
-    }
-
-    private void addSuiteInfo(ITestContext context) {
-        Allure.addAttachment("Suite Info",
-                "Suite: " + context.getName() +
-                "\nTotal Tests: " + context.getAllTestMethods().length);
-    }
-
-    private void addSuiteSummary(ITestContext context) {
-        Allure.addAttachment("Suite Summary",
-                "Passed: " + context.getPassedTests().size() +
-                "\nFailed: " + context.getFailedTests().size() +
-                "\nSkipped: " + context.getSkippedTests().size());
-    }
-
-    private void logExecutionSummary(ITestContext context) {
-        logger.info("📊 SUMMARY → Passed: {}, Failed: {}, Skipped: {}",
-                context.getPassedTests().size(),
-                context.getFailedTests().size(),
-                context.getSkippedTests().size());
-    }
-
-    /* ===================== Inner Class ===================== */
-
-    private static class TestExecutionData {
-        private final long startTime;
-
-        TestExecutionData(String testName, String className) {
-            this.startTime = System.currentTimeMillis();
-        }
-
-        long getExecutionTime() {
-            return System.currentTimeMillis() - startTime;
-        }
-    }
-}
+package com.swaglabs.core.listeners;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.TestListenerAdapter;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import com.swaglabs.core.driver.ConcurrencyGovernor;
+import com.swaglabs.core.driver.DriverManager;
+import com.swaglabs.core.driver.RequestBlocker;
+import com.swaglabs.core.driver.ResourceMonitor;
+import com.swaglabs.core.driver.ScreencastRecorder;
+import com.swaglabs.core.utils.ScreenshotPipeline;
+import com.swaglabs.core.utils.ScreenshotUtils;
+import com.swaglabs.core.wait.RetryMetrics;
+import com.swaglabs.core.wait.WaitMetrics;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.Attachment;
+
+/**
+ * Enterprise-level TestNG Listener with Allure integration
+ */
+public class TestListener extends TestListenerAdapter {
+
+    private static final Logger logger = LogManager.getLogger(TestListener.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final DateTimeFormatter TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final ConcurrentHashMap<String, TestExecutionData> executionData =
+            new ConcurrentHashMap<>();
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        String testName = result.getMethod().getMethodName();
+        String className = result.getTestClass().getRealClass().getSimpleName();
+
+        logger.info("🚀 STARTING TEST: {}.{}", className, testName);
+        executionData.put(testName, new TestExecutionData(testName, className));
+
+        addTestMetadata(result);
+        addEnvironmentInfo();
+
+        // Start a fresh resource sampling window and screen recording for this test
+        WebDriver driver = findActiveDriver(result);
+        ResourceMonitor.drainStats(driver);
+        ScreencastRecorder.discard(driver);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        String testName = result.getMethod().getMethodName();
+        long time = getExecutionTime(testName);
+
+        logger.info("✅ PASSED: {} ({} ms)", testName, time);
+
+		/*
+		 * if (config.isEnableScreenshotOnSuccess()) { captureScreenshot(result); }
+		 */
+
+        ScreencastRecorder.discard(findActiveDriver(result));
+        addSuccessDetails(result, time);
+        addNetworkStats(result);
+        addResourceStats(result);
+        addWaitStats(result);
+        executionData.remove(testName);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        String testName = result.getMethod().getMethodName();
+        long time = getExecutionTime(testName);
+
+        logger.error("❌ FAILED: {} ({} ms)", testName, time, result.getThrowable());
+
+        captureScreenshot(result);
+        attachVideo(result);
+        addFailureDetails(result, time, result.getThrowable());
+        attachPageSource(result);
+        addNetworkStats(result);
+        addResourceStats(result);
+        addWaitStats(result);
+
+        executionData.remove(testName);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        logger.warn("⏭️ SKIPPED: {}", result.getMethod().getMethodName());
+        addSkipDetails(result);
+        ScreencastRecorder.discard(findActiveDriver(result));
+        executionData.remove(result.getMethod().getMethodName());
+    }
+
+    @Override
+    public void onStart(ITestContext context) {
+        logger.info("🎯 TEST SUITE STARTED: {}", context.getName());
+        addSuiteInfo(context);
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        logger.info("🏁 TEST SUITE FINISHED: {}", context.getName());
+        logExecutionSummary(context);
+        addSuiteSummary(context);
+        addRetryStats();
+    }
+
+    /* ===================== Helpers ===================== */
+
+    private long getExecutionTime(String testName) {
+        TestExecutionData data = executionData.get(testName);
+        return data == null ? 0 : data.getExecutionTime();
+    }
+
+    private void captureScreenshot(ITestResult result) {
+        try {
+            WebDriver driver = findActiveDriver(result);
+            if (driver != null) {
+                ScreenshotPipeline.attach(driver, "Screenshot");
+            }
+        } catch (Exception e) {
+            logger.warn("Screenshot capture failed", e);
+        }
+    }
+
+    // Frames are only encoded here, so passing tests never pay for the video
+    private void attachVideo(ITestResult result) {
+        try {
+            byte[] video = ScreencastRecorder.encodeRecording(findActiveDriver(result));
+            if (video.length > 0) {
+                Allure.addAttachment("Screen Recording", "video/x-msvideo", new ByteArrayInputStream(video), "avi");
+                ScreenshotUtils.saveVideo(result.getMethod().getMethodName(), video);
+            }
+        } catch (Exception e) {
+            logger.warn("Video attachment failed", e);
+        }
+    }
+
+    @Attachment(value = "Page Source", type = "text/html")
+    private String attachPageSource(ITestResult result) {
+        try {
+            WebDriver driver = findActiveDriver(result);
+            return driver != null ? driver.getPageSource() : "No Page Source";
+        } catch (Exception e) {
+            return "Page Source Not Available";
+        }
+    }
+
+    // Nearest "driver" field up the test class hierarchy, else the session bound to the test's scope; never starts one
+    private WebDriver findActiveDriver(ITestResult result) {
+        Object instance = result.getInstance();
+        for (Class<?> type = instance != null ? instance.getClass() : null; type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField("driver");
+                if (WebDriver.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    WebDriver driver = (WebDriver) field.get(instance);
+                    if (driver != null) {
+                        return driver;
+                    }
+                }
+            } catch (NoSuchFieldException e) {
+                // Declared further up, if anywhere
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.debug("Driver field of {} not readable: {}", type.getSimpleName(), e.getMessage());
+            }
+        }
+        return DriverManager.findDriver(result);
+    }
+
+    private void addNetworkStats(ITestResult result) {
+        RequestBlocker.TrafficSnapshot stats = RequestBlocker.drainStats(findActiveDriver(result));
+        if (stats.getBlockedRequests() > 0 || stats.getLoadedRequests() > 0) {
+            logger.info("🌐 Network: {} blocked, {} loaded ({} bytes)",
+                    stats.getBlockedRequests(), stats.getLoadedRequests(), stats.getLoadedBytes());
+            Allure.addAttachment("Network Stats", stats.toString());
+        }
+    }
+
+    private void addResourceStats(ITestResult result) {
+        ResourceMonitor.ResourceSnapshot stats = ResourceMonitor.drainStats(findActiveDriver(result));
+        if (stats.getSamples() > 0) {
+            logger.info("📈 Resources: peak {} MB, average {} MB, CPU {} ms",
+                    stats.getPeakRssBytes() / (1024 * 1024), stats.getAverageRssBytes() / (1024 * 1024),
+                    stats.getCpuMillis());
+            Allure.addAttachment("Resource Usage", stats.toString());
+            ConcurrencyGovernor.recordSessionMemory(stats.getPeakRssBytes());
+        }
+    }
+
+    private void addWaitStats(ITestResult result) {
+        WaitMetrics.WaitSnapshot stats = WaitMetrics.drainStats(findActiveDriver(result));
+        if (stats.getWaits() > 0) {
+            logger.info("⏱️ Waits: {} ({} polls, {} timed out), {} ms total, longest {} ms",
+                    stats.getWaits(), stats.getPolls(), stats.getTimeouts(), stats.getTotalMillis(), stats.getMaxMillis());
+            Allure.addAttachment("Wait Timing", stats.toString());
+        }
+    }
+
+    private void addRetryStats() {
+        List<RetryMetrics.LocatorRetries> offenders = RetryMetrics.worstOffenders(10);
+        if (!offenders.isEmpty()) {
+            StringBuilder report = new StringBuilder();
+            for (RetryMetrics.LocatorRetries locator : offenders) {
+                logger.info("🔁 Retries: {}", locator);
+                report.append(locator).append('\n');
+            }
+            Allure.addAttachment("Retried Locators", report.toString());
+        }
+    }
+
+    private void addTestMetadata(ITestResult result) {
+        Allure.getLifecycle().updateTestCase(tc -> {
+            tc.setName(result.getMethod().getMethodName());
+            tc.setFullName(
+                result.getTestClass().getRealClass().getSimpleName() + "." +
+                result.getMethod().getMethodName()
+            );
+        });
+    }
+
+    private void addEnvironmentInfo() {
+        String info = String.format(
+                "Env: %s%nBrowser: %s%nHeadless: %s%nBaseURL: %s%nTime: %s",
+                System.getProperty("env", "qa"),
+                config.getBrowser(),
+                config.isHeadless(),
+                config.getBaseUrl(),
+                LocalDateTime.now().format(TIMESTAMP)
+        );
+        Allure.addAttachment("Environment Info", info);
+    }
+
+    private void addSuccessDetails(ITestResult result, long time) {
+        Allure.addAttachment("Success Details",
+                "Test: " + result.getMethod().getMethodName() +
+                "\nExecution Time: " + time + " ms");
+    }
+
+    private void addFailureDetails(ITestResult result, long time, Throwable t) {
+        Allure.addAttachment("Failure Details",
+                "Test: " + result.getMethod().getMethodName() +
+                "\nExecution Time: " + time + " ms\nError: " +
+                (t != null ? t.getMessage() : "Unknown"));
+    }
+
+    private void addSkipDetails(ITestResult result) {
+        Allure.addAttachment("Skipped Test",
+                "Test: " + result.getMethod().getMethodName());
+    }
+
+    private void addSuiteInfo(ITestContext context) {
+        Allure.addAttachment("Suite Info",
+                "Suite: " + context.getName() +
+                "\nTotal Tests: " + context.getAllTestMethods().length);
+    }
+
+    private void addSuiteSummary(ITestContext context) {
+        Allure.addAttachment("Suite Summary",
+                "Passed: " + context.getPassedTests().size() +
+                "\nFailed: " + context.getFailedTests().size() +
+                "\nSkipped: " + context.getSkippedTests().size());
+    }
+
+    private void logExecutionSummary(ITestContext context) {
+        logger.info("📊 SUMMARY → Passed: {}, Failed: {}, Skipped: {}",
+                context.getPassedTests().size(),
+                context.getFailedTests().size(),
+                context.getSkippedTests().size());
+    }
+
+    /* ===================== Inner Class ===================== */
+
+    private static class TestExecutionData {
+        private final long startTime;
+
+        TestExecutionData(String testName, String className) {
+            this.startTime = System.currentTimeMillis();
+        }
+
+        long getExecutionTime() {
+            return System.currentTimeMillis() - startTime;
+        }
+    }
+}
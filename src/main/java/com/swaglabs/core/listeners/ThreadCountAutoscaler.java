@@ -0,0 +1,44 @@
+package com.swaglabs.core.listeners;
+
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import com.swaglabs.core.driver.ConcurrencyGovernor;
+
+/**
+ * Sizes parallel execution from the agent's cores and free memory instead of the thread-count in TestNG.xml
+ * The suite gets enough threads for the maximum, and ConcurrencyGovernor throttles live sessions at runtime
+ */
+public class ThreadCountAutoscaler implements IAlterSuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(ThreadCountAutoscaler.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!config.isAutoscaleThreads()) {
+            return;
+        }
+
+        int min = Math.max(1, config.getAutoscaleMinThreads());
+        int max = Math.max(min, config.getAutoscaleMaxThreads());
+        int cores = Runtime.getRuntime().availableProcessors();
+        long byMemory = ConcurrencyGovernor.getAvailableMemoryBytes() / ConcurrencyGovernor.getSessionMemoryEstimate();
+        int initial = (int) Math.max(min, Math.min(max, Math.min(cores, byMemory)));
+
+        logger.info("⚖️ Autoscaling sessions: {} initial (cores: {}, memory allows: {}, range: {}-{})",
+                initial, cores, byMemory, min, max);
+
+        for (XmlSuite suite : suites) {
+            if (suite.getParallel() != null && suite.getParallel() != XmlSuite.ParallelMode.NONE) {
+                suite.setThreadCount(max);
+            }
+        }
+        ConcurrencyGovernor.start(initial, min, max);
+    }
+}
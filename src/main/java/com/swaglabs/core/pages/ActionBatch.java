@@ -0,0 +1,297 @@
+package com.swaglabs.core.pages;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import com.swaglabs.core.wait.SmartWait;
+import com.swaglabs.core.wait.WaitCondition;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Records fill, click and select steps of a page flow and flushes them in as few driver calls as possible
+ * In script mode the whole batch runs in one executeScript that dispatches input/change events; in actions mode
+ * fields are cleared by one script and typed by one W3C Actions chain. A step that cannot run batched, and every
+ * step after it, falls back to the page's own per-step methods. With batching disabled every step runs per step.
+ * Clicks are never replayed: when a driver call fails and a click may already have run, the flush fails instead.
+ */
+public class ActionBatch {
+    private static final Logger logger = LogManager.getLogger(ActionBatch.class);
+
+    private static final String RUN_SCRIPT =
+            "var steps = arguments[0], batch = arguments[1];" +
+            "function visible(e) {" +
+            "  if (!e || !e.isConnected) return false;" +
+            "  var style = window.getComputedStyle(e);" +
+            "  return style.visibility !== 'hidden' && style.display !== 'none' && e.getClientRects().length > 0;" +
+            "}" +
+            "function setValue(e, value) {" +
+            "  var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(e), 'value');" +
+            "  if (descriptor && descriptor.set) descriptor.set.call(e, value); else e.value = value;" +
+            "  e.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  e.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "}" +
+            "window.__actionBatch = [batch, 0];" +
+            "for (var i = 0; i < steps.length; i++) {" +
+            "  var type = steps[i][0], e = steps[i][1], value = steps[i][2];" +
+            "  try {" +
+            "    if (!visible(e)) return [i, 'element not visible'];" +
+            "    if (e.disabled) return [i, 'element disabled'];" +
+            "    if (type === 'fill') {" +
+            "      if (e.readOnly) return [i, 'element read-only'];" +
+            "      e.focus(); setValue(e, value); e.blur();" +
+            "    } else if (type === 'select') {" +
+            "      var options = Array.prototype.map.call(e.options || [], function(o) { return o.value; });" +
+            "      if (options.indexOf(value) < 0) return [i, 'no option with value ' + value];" +
+            "      setValue(e, value);" +
+            "    } else {" +
+            "      e.scrollIntoView({block: 'center'}); e.click();" +
+            "    }" +
+            "  } catch (err) { return [i, String(err)]; }" +
+            "  window.__actionBatch = [batch, i + 1];" +
+            "}" +
+            "return [steps.length, null];";
+
+    // Steps completed by the batch with the given id, or -1 when this page did not run it
+    private static final String PROGRESS_SCRIPT =
+            "var progress = window.__actionBatch;" +
+            "return progress && progress[0] === arguments[0] ? progress[1] : -1;";
+
+    private static final String CLEAR_SCRIPT =
+            "arguments[0].forEach(function(e) {" +
+            "  var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(e), 'value');" +
+            "  if (descriptor && descriptor.set) descriptor.set.call(e, ''); else e.value = '';" +
+            "  e.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "});";
+
+    private final WebDriver driver;
+    private final SmartWait wait;
+    private final BiConsumer<WebElement, String> fillStep;
+    private final Consumer<WebElement> clickStep;
+    private final BiConsumer<WebElement, String> selectStep;
+    private final List<Step> steps = new ArrayList<>();
+
+    public ActionBatch(WebDriver driver, SmartWait wait, BiConsumer<WebElement, String> fillStep,
+                       Consumer<WebElement> clickStep, BiConsumer<WebElement, String> selectStep) {
+        this.driver = driver;
+        this.wait = wait;
+        this.fillStep = fillStep;
+        this.clickStep = clickStep;
+        this.selectStep = selectStep;
+    }
+
+    /**
+     * Replace the value of an input or textarea
+     */
+    public ActionBatch fill(WebElement element, String text) {
+        steps.add(new Step(StepType.FILL, element, text));
+        return this;
+    }
+
+    /**
+     * Click an element; a click that navigates away should be the last step of the batch
+     */
+    public ActionBatch click(WebElement element) {
+        steps.add(new Step(StepType.CLICK, element, null));
+        return this;
+    }
+
+    /**
+     * Select a dropdown option by value
+     */
+    public ActionBatch select(WebElement element, String value) {
+        steps.add(new Step(StepType.SELECT, element, value));
+        return this;
+    }
+
+    /**
+     * Run the recorded steps and clear the batch
+     */
+    public void flush() {
+        if (steps.isEmpty()) {
+            return;
+        }
+        List<Step> pending = new ArrayList<>(steps);
+        steps.clear();
+        try {
+            ConfigurationManager config = ConfigurationManager.getInstance();
+            if (!config.isBatchActions()) {
+                runPerStep(pending, 0);
+            } else if ("actions".equalsIgnoreCase(config.getActionBatchMode())) {
+                runAsActionsChain(pending);
+            } else {
+                runAsScript(pending);
+            }
+        } finally {
+            PageSnapshot.invalidate(driver);
+        }
+    }
+
+    private void runAsScript(List<Step> pending) {
+        String batchId = UUID.randomUUID().toString();
+        boolean sent = false;
+        int completed = 0;
+        String failure;
+        try {
+            wait.untilAll(WaitCondition.visible(pending.get(0).element));
+            List<List<Object>> script = new ArrayList<>(pending.size());
+            for (Step step : pending) {
+                script.add(Arrays.asList(step.type.scriptName, step.element, step.value));
+            }
+            sent = true;
+            List<?> result = (List<?>) ((JavascriptExecutor) driver).executeScript(RUN_SCRIPT, script, batchId);
+            completed = ((Number) result.get(0)).intValue();
+            failure = (String) result.get(1);
+        } catch (RuntimeException e) {
+            if (sent) {
+                // The script may have run some steps before the call failed; resume only where that is known
+                completed = resumeAfterFailedCall(pending, readProgress(batchId), e);
+            }
+            failure = e.getMessage();
+        }
+        if (completed < pending.size()) {
+            logger.warn("Batched actions stopped at step {} of {} ({}), continuing step by step",
+                    completed + 1, pending.size(), failure);
+            runPerStep(pending, completed);
+        } else {
+            logger.debug("Ran {} batched actions in one script", pending.size());
+        }
+    }
+
+    // Selects have no keyboard equivalent here, so they split the chain and run through the page's select step
+    private void runAsActionsChain(List<Step> pending) {
+        int segmentStart = 0;
+        int segmentEnd = 0;
+        try {
+            wait.untilAll(WaitCondition.visible(pending.get(0).element));
+            List<WebElement> fields = new ArrayList<>();
+            for (Step step : pending) {
+                if (step.type == StepType.FILL) {
+                    fields.add(step.element);
+                }
+            }
+            if (!fields.isEmpty()) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_SCRIPT, fields);
+            }
+
+            Actions chain = new Actions(driver);
+            boolean chained = false;
+            for (int i = 0; i < pending.size(); i++) {
+                Step step = pending.get(i);
+                if (step.type == StepType.SELECT) {
+                    if (chained) {
+                        segmentEnd = i;
+                        chain.perform();
+                        chain = new Actions(driver);
+                        chained = false;
+                    }
+                    segmentStart = i;
+                    selectStep.accept(step.element, step.value);
+                    segmentStart = i + 1;
+                    continue;
+                }
+                chain.click(step.element);
+                if (step.type == StepType.FILL) {
+                    chain.sendKeys(step.value);
+                }
+                chained = true;
+            }
+            if (chained) {
+                segmentEnd = pending.size();
+                chain.perform();
+            }
+            logger.debug("Ran {} batched actions as an actions chain", pending.size());
+        } catch (RuntimeException e) {
+            // A chain that failed part way may have clicked already
+            if (segmentEnd > segmentStart && hasClick(pending, segmentStart, segmentEnd)) {
+                throw new IllegalStateException("Batched actions chain failed after it may have clicked (steps "
+                        + (segmentStart + 1) + " to " + segmentEnd + " of " + pending.size() + ")", e);
+            }
+            logger.warn("Batched actions chain failed from step {} of {} ({}), continuing step by step",
+                    segmentStart + 1, pending.size(), e.getMessage());
+            runPerStep(pending, segmentStart);
+        }
+    }
+
+    // Resume at the first step the script did not finish, unless that step or an unknown one is a click
+    private int resumeAfterFailedCall(List<Step> pending, int progress, RuntimeException e) {
+        if (progress >= pending.size()) {
+            return progress;
+        }
+        int uncertainEnd = progress < 0 ? pending.size() : progress + 1;
+        if (hasClick(pending, Math.max(progress, 0), uncertainEnd)) {
+            throw new IllegalStateException("Batched actions failed after step " + Math.max(progress, 0) + " of "
+                    + pending.size() + " and a click may already have run", e);
+        }
+        return Math.max(progress, 0);
+    }
+
+    private int readProgress(String batchId) {
+        try {
+            Object progress = ((JavascriptExecutor) driver).executeScript(PROGRESS_SCRIPT, batchId);
+            return progress instanceof Number ? ((Number) progress).intValue() : -1;
+        } catch (RuntimeException e) {
+            logger.debug("Batched actions progress unavailable: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    private static boolean hasClick(List<Step> pending, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (pending.get(i).type == StepType.CLICK) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void runPerStep(List<Step> pending, int from) {
+        for (int i = from; i < pending.size(); i++) {
+            Step step = pending.get(i);
+            switch (step.type) {
+                case FILL:
+                    fillStep.accept(step.element, step.value);
+                    break;
+                case SELECT:
+                    selectStep.accept(step.element, step.value);
+                    break;
+                default:
+                    clickStep.accept(step.element);
+                    break;
+            }
+        }
+    }
+
+    /* ===================== Inner Classes ===================== */
+
+    private enum StepType {
+        FILL("fill"), CLICK("click"), SELECT("select");
+
+        private final String scriptName;
+
+        StepType(String scriptName) {
+            this.scriptName = scriptName;
+        }
+    }
+
+    private static class Step {
+        private final StepType type;
+        private final WebElement element;
+        private final String value;
+
+        Step(StepType type, WebElement element, String value) {
+            this.type = type;
+            this.element = element;
+            this.value = value;
+        }
+    }
+}
@@ -1,428 +1,491 @@
-package com.swaglabs.core.pages;
-
-import com.swaglabs.core.config.ConfigurationManager;
-import com.swaglabs.core.utils.ScreenshotUtils;
-import io.qameta.allure.Allure;
-import io.qameta.allure.Step;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.*;
-import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedCondition;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-import java.time.Duration;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.function.Function;
-
-/**
- * Enhanced base page class with enterprise-level features
- * Includes retry mechanisms, comprehensive error handling, and Allure integration
- */
-public abstract class BasePage {
-    
-    protected final WebDriver driver;
-    protected final WebDriverWait wait;
-    protected final Actions actions;
-    protected final Logger logger;
-    protected final ConfigurationManager config;
-    
-    public BasePage(WebDriver driver) {
-        this.driver = driver;
-        this.config = ConfigurationManager.getInstance();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(config.getExplicitWait()));
-        this.actions = new Actions(driver);
-        this.logger = LogManager.getLogger(this.getClass());
-        
-        PageFactory.initElements(driver, this);
-        logger.info("Initialized page: {}", this.getClass().getSimpleName());
-    }
-    
-    /**
-     * Wait for element to be visible with retry mechanism
-     */
-    @Step("Wait for element to be visible: {element}")
-    protected void waitForElementVisible(WebElement element) {
-        waitForElementVisible(element, config.getExplicitWait());
-    }
-    
-    @Step("Wait for element to be visible: {element} with timeout: {timeoutSeconds}")
-    protected void waitForElementVisible(WebElement element, int timeoutSeconds) {
-        try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            customWait.until(ExpectedConditions.visibilityOf(element));
-            logger.debug("Element is visible: {}", element);
-        } catch (TimeoutException e) {
-            logger.error("Element not visible within {} seconds: {}", timeoutSeconds, element);
-            captureScreenshot("ElementNotVisible_" + element.toString());
-            throw new RuntimeException("Element not visible: " + element, e);
-        }
-    }
-    
-    /**
-     * Wait for element to be clickable
-     */
-    @Step("Wait for element to be clickable: {element}")
-    protected void waitForElementClickable(WebElement element) {
-        try {
-            wait.until(ExpectedConditions.elementToBeClickable(element));
-            logger.debug("Element is clickable: {}", element);
-        } catch (TimeoutException e) {
-            logger.error("Element not clickable: {}", element);
-            captureScreenshot("ElementNotClickable_" + element.toString());
-            throw new RuntimeException("Element not clickable: " + element, e);
-        }
-    }
-    
-    /**
-     * Click element with retry mechanism
-     */
-    @Step("Click element: {element}")
-    protected void click(WebElement element) {
-        click(element, 3); // Default retry count
-    }
-    
-    @Step("Click element: {element} with retry count: {retryCount}")
-    protected void click(WebElement element, int retryCount) {
-        for (int attempt = 1; attempt <= retryCount; attempt++) {
-            try {
-                waitForElementClickable(element);
-                element.click();
-                logger.info("Successfully clicked element: {}", element);
-                return;
-            } catch (Exception e) {
-                logger.warn("Click attempt {} failed for element: {}. Error: {}", attempt, element, e.getMessage());
-                if (attempt == retryCount) {
-                    captureScreenshot("ClickFailed_" + element.toString());
-                    throw new RuntimeException("Failed to click element after " + retryCount + " attempts: " + element, e);
-                }
-                waitForSeconds(1);
-            }
-        }
-    }
-    
-    /**
-     * Enter text with retry mechanism
-     */
-    @Step("Enter text '{text}' into element: {element}")
-    protected void enterText(WebElement element, String text) {
-        enterText(element, text, 3);
-    }
-    
-    @Step("Enter text '{text}' into element: {element} with retry count: {retryCount}")
-    protected void enterText(WebElement element, String text, int retryCount) {
-        for (int attempt = 1; attempt <= retryCount; attempt++) {
-            try {
-                waitForElementVisible(element);
-                element.clear();
-                element.sendKeys(text);
-                logger.info("Successfully entered text '{}' into element: {}", text, element);
-                return;
-            } catch (Exception e) {
-                logger.warn("Text entry attempt {} failed for element: {}. Error: {}", attempt, element, e.getMessage());
-                if (attempt == retryCount) {
-                    captureScreenshot("TextEntryFailed_" + element.toString());
-                    throw new RuntimeException("Failed to enter text after " + retryCount + " attempts: " + element, e);
-                }
-                waitForSeconds(1);
-            }
-        }
-    }
-    
-    /**
-     * Get text from element
-     */
-    @Step("Get text from element: {element}")
-    protected String getText(WebElement element) {
-        try {
-            waitForElementVisible(element);
-            String text = element.getText();
-            logger.debug("Retrieved text '{}' from element: {}", text, element);
-            return text;
-        } catch (Exception e) {
-            logger.error("Failed to get text from element: {}", element, e);
-            captureScreenshot("GetTextFailed_" + element.toString());
-            throw new RuntimeException("Failed to get text from element: " + element, e);
-        }
-    }
-    
-    /**
-     * Get attribute value from element
-     */
-    @Step("Get attribute '{attribute}' from element: {element}")
-    protected String getAttribute(WebElement element, String attribute) {
-        try {
-            waitForElementVisible(element);
-            String value = element.getAttribute(attribute);
-            logger.debug("Retrieved attribute '{}' = '{}' from element: {}", attribute, value, element);
-            return value;
-        } catch (Exception e) {
-            logger.error("Failed to get attribute '{}' from element: {}", attribute, element, e);
-            throw new RuntimeException("Failed to get attribute from element: " + element, e);
-        }
-    }
-    
-    /**
-     * Select option from dropdown
-     */
-    @Step("Select option '{value}' from dropdown: {element}")
-    protected void selectByValue(WebElement element, String value) {
-        try {
-            waitForElementVisible(element);
-            Select select = new Select(element);
-            select.selectByValue(value);
-            logger.info("Successfully selected option '{}' from dropdown: {}", value, element);
-        } catch (Exception e) {
-            logger.error("Failed to select option '{}' from dropdown: {}", value, element, e);
-            captureScreenshot("SelectFailed_" + element.toString());
-            throw new RuntimeException("Failed to select option from dropdown: " + element, e);
-        }
-    }
-    
-    @Step("Select option by visible text '{text}' from dropdown: {element}")
-    protected void selectByVisibleText(WebElement element, String text) {
-        try {
-            waitForElementVisible(element);
-            Select select = new Select(element);
-            select.selectByVisibleText(text);
-            logger.info("Successfully selected option '{}' from dropdown: {}", text, element);
-        } catch (Exception e) {
-            logger.error("Failed to select option '{}' from dropdown: {}", text, element, e);
-            captureScreenshot("SelectFailed_" + element.toString());
-            throw new RuntimeException("Failed to select option from dropdown: " + element, e);
-        }
-    }
-    
-    /**
-     * Check if element is displayed
-     */
-    @Step("Check if element is displayed: {element}")
-    protected boolean isElementDisplayed(WebElement element) {
-        try {
-            return element.isDisplayed();
-        } catch (Exception e) {
-            logger.debug("Element not displayed: {}", element);
-            return false;
-        }
-    }
-    
-    /**
-     * Check if element is enabled
-     */
-    @Step("Check if element is enabled: {element}")
-    protected boolean isElementEnabled(WebElement element) {
-        try {
-            return element.isEnabled();
-        } catch (Exception e) {
-            logger.debug("Element not enabled: {}", element);
-            return false;
-        }
-    }
-    
-    /**
-     * Wait for page to load
-     */
-    @Step("Wait for page to load")
-    protected void waitForPageLoad() {
-        try {
-            wait.until((Function<WebDriver, Boolean>) driver -> {
-                String readyState = ((JavascriptExecutor) driver).executeScript("return document.readyState").toString();
-                return "complete".equals(readyState);
-            });
-            logger.debug("Page loaded successfully");
-        } catch (Exception e) {
-            logger.warn("Page load wait failed: {}", e.getMessage());
-        }
-    }
-    
-    /**
-     * Wait for custom condition
-     */
-    protected <T> T waitForCondition(ExpectedCondition<T> condition) {
-        return wait.until(condition);
-    }
-    
-    /**
-     * Wait for custom condition with timeout
-     */
-    protected <T> T waitForCondition(ExpectedCondition<T> condition, int timeoutSeconds) {
-        WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return customWait.until(condition);
-    }
-    
-    /**
-     * Scroll to element
-     */
-    @Step("Scroll to element: {element}")
-    protected void scrollToElement(WebElement element) {
-        try {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
-            waitForSeconds(1);
-            logger.debug("Scrolled to element: {}", element);
-        } catch (Exception e) {
-            logger.warn("Failed to scroll to element: {}", element, e);
-        }
-    }
-    
-    /**
-     * Execute JavaScript
-     */
-    @Step("Execute JavaScript: {script}")
-    protected Object executeJavaScript(String script, Object... args) {
-        try {
-            Object result = ((JavascriptExecutor) driver).executeScript(script, args);
-            logger.debug("Executed JavaScript: {} with result: {}", script, result);
-            return result;
-        } catch (Exception e) {
-            logger.error("Failed to execute JavaScript: {}", script, e);
-            throw new RuntimeException("JavaScript execution failed: " + script, e);
-        }
-    }
-    
-    /**
-     * Get multiple element texts
-     */
-    @Step("Get first {count} element texts from: {elements}")
-    protected List<String> getElementTexts(List<WebElement> elements, int count) {
-        List<String> texts = new ArrayList<>();
-        int maxCount = Math.min(count, elements.size());
-        
-        for (int i = 0; i < maxCount; i++) {
-            try {
-                String text = getText(elements.get(i));
-                texts.add(text);
-            } catch (Exception e) {
-                logger.warn("Failed to get text from element at index {}: {}", i, e.getMessage());
-                texts.add("");
-            }
-        }
-        
-        logger.debug("Retrieved {} texts from elements: {}", texts.size(), texts);
-        return texts;
-    }
-    
-    /**
-     * Check if prices are sorted low to high
-     */
-    @Step("Check if first {count} prices are sorted low to high")
-    protected boolean arePricesSortedLowToHigh(List<WebElement> priceElements, int count) {
-        List<Double> prices = new ArrayList<>();
-        
-        for (int i = 0; i < count && i < priceElements.size(); i++) {
-            try {
-                String priceText = getText(priceElements.get(i)).replace("$", "").trim();
-                prices.add(Double.parseDouble(priceText));
-            } catch (NumberFormatException e) {
-                logger.warn("Failed to parse price at index {}: {}", i, e.getMessage());
-                return false;
-            }
-        }
-        
-        List<Double> sortedPrices = new ArrayList<>(prices);
-        Collections.sort(sortedPrices);
-        
-        boolean isSorted = prices.equals(sortedPrices);
-        logger.debug("Price sorting check result: {} for prices: {}", isSorted, prices);
-        return isSorted;
-    }
-    
-    /**
-     * Wait for specified seconds
-     */
-    protected void waitForSeconds(int seconds) {
-        try {
-            Thread.sleep(seconds * 1000L);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Thread interrupted during wait");
-        }
-    }
-    
-    /**
-     * Capture screenshot and attach to Allure report
-     */
-    protected void captureScreenshot(String name) {
-        if (!config.isScreenshotOnFailureEnabled()) {
-            return;
-        }
-
-        try {
-            byte[] screenshot = ScreenshotUtils.captureScreenshot(driver);
-
-            Allure.getLifecycle().addAttachment(
-                    name + "_" + System.currentTimeMillis(),
-                    "image/png",
-                    "png",
-                    screenshot
-            );
-
-            logger.debug("Screenshot captured: {}", name);
-
-        } catch (Exception e) {
-            logger.warn("Failed to capture screenshot: {}", name, e);
-        }
-    }
-
-    
-    /**
-     * Get current page title
-     */
-    @Step("Get page title")
-    protected String getPageTitle() {
-        String title = driver.getTitle();
-        logger.debug("Page title: {}", title);
-        return title;
-    }
-    
-    /**
-     * Get current page URL
-     */
-    @Step("Get page URL")
-    protected String getPageUrl() {
-        String url = driver.getCurrentUrl();
-        logger.debug("Page URL: {}", url);
-        return url;
-    }
-    
-    /**
-     * Navigate to URL
-     */
-    @Step("Navigate to URL: {url}")
-    protected void navigateTo(String url) {
-        try {
-            driver.get(url);
-            waitForPageLoad();
-            logger.info("Successfully navigated to: {}", url);
-        } catch (Exception e) {
-            logger.error("Failed to navigate to: {}", url, e);
-            throw new RuntimeException("Navigation failed: " + url, e);
-        }
-    }
-    
-    /**
-     * Refresh page
-     */
-    @Step("Refresh page")
-    protected void refreshPage() {
-        try {
-            driver.navigate().refresh();
-            waitForPageLoad();
-            logger.info("Page refreshed successfully");
-        } catch (Exception e) {
-            logger.error("Failed to refresh page", e);
-            throw new RuntimeException("Page refresh failed", e);
-        }
-    }
-    
-    /**
-     * Get WebDriver instance
-     */
-    protected WebDriver getDriver() {
-        return driver;
-    }
+package com.swaglabs.core.pages;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import com.swaglabs.core.utils.ScreenshotPipeline;
+import com.swaglabs.core.wait.PageReadiness;
+import com.swaglabs.core.wait.RetryPolicy;
+import com.swaglabs.core.wait.SmartWait;
+import com.swaglabs.core.wait.WaitCondition;
+import com.swaglabs.core.wait.WaitFactory;
+import io.qameta.allure.Step;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.*;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.Select;
+
+import java.util.List;
+
+/**
+ * Enhanced base page class with enterprise-level features
+ * Includes retry mechanisms, comprehensive error handling, and Allure integration
+ */
+public abstract class BasePage {
+    
+    protected final WebDriver driver;
+    protected final WaitFactory waits;
+    protected final SmartWait wait;
+    protected final PageSnapshot.Cache snapshots;
+    protected final RetryPolicy retryPolicy;
+    protected final Actions actions;
+    protected final Logger logger;
+    protected final ConfigurationManager config;
+    
+    public BasePage(WebDriver driver) {
+        this.driver = driver;
+        this.config = ConfigurationManager.getInstance();
+        this.waits = WaitFactory.forDriver(driver);
+        this.wait = waits.defaultWait();
+        this.snapshots = new PageSnapshot.Cache(driver, getClass(), wait);
+        this.retryPolicy = RetryPolicy.fromConfig();
+        this.actions = new Actions(driver);
+        this.logger = LogManager.getLogger(this.getClass());
+        
+        PageElements.initElements(driver, this);
+        logger.info("Initialized page: {}", this.getClass().getSimpleName());
+    }
+    
+    /**
+     * Wait for element to be visible with retry mechanism
+     */
+    @Step("Wait for element to be visible: {element}")
+    protected void waitForElementVisible(WebElement element) {
+        waitForElementVisible(element, config.getExplicitWait());
+    }
+    
+    @Step("Wait for element to be visible: {element} with timeout: {timeoutSeconds}")
+    protected void waitForElementVisible(WebElement element, int timeoutSeconds) {
+        try {
+            waits.withTimeout(timeoutSeconds).untilAll(WaitCondition.visible(element));
+            logger.debug("Element is visible: {}", element);
+        } catch (TimeoutException e) {
+            logger.error("Element not visible within {} seconds: {}", timeoutSeconds, element);
+            captureScreenshot("ElementNotVisible_" + element.toString());
+            throw new RuntimeException("Element not visible: " + element, e);
+        }
+    }
+    
+    /**
+     * Wait for element to be clickable
+     */
+    @Step("Wait for element to be clickable: {element}")
+    protected void waitForElementClickable(WebElement element) {
+        try {
+            wait.untilAll(WaitCondition.clickable(element));
+            logger.debug("Element is clickable: {}", element);
+        } catch (TimeoutException e) {
+            logger.error("Element not clickable: {}", element);
+            captureScreenshot("ElementNotClickable_" + element.toString());
+            throw new RuntimeException("Element not clickable: " + element, e);
+        }
+    }
+    
+    /**
+     * Click element with retry mechanism
+     */
+    @Step("Click element: {element}")
+    protected void click(WebElement element) {
+        click(element, retryPolicy.getMaxAttempts());
+    }
+    
+    /**
+     * Click element, retrying transient failures (stale, intercepted, not found) up to retryCount attempts in total
+     */
+    @Step("Click element: {element} with retry count: {retryCount}")
+    protected void click(WebElement element, int retryCount) {
+        try {
+            retryPolicy.withMaxAttempts(retryCount).run(driver, PageElements.describe(element), () -> {
+                waitForElementClickable(element);
+                element.click();
+                invalidateSnapshot();
+            });
+            logger.info("Successfully clicked element: {}", element);
+        } catch (RuntimeException e) {
+            logger.error("Click failed for element: {}. Error: {}", element, e.getMessage());
+            captureScreenshot("ClickFailed_" + element.toString());
+            throw new RuntimeException("Failed to click element within " + retryCount + " attempts: " + element, e);
+        }
+    }
+    
+    /**
+     * Enter text with retry mechanism
+     */
+    @Step("Enter text '{text}' into element: {element}")
+    protected void enterText(WebElement element, String text) {
+        enterText(element, text, retryPolicy.getMaxAttempts());
+    }
+    
+    /**
+     * Enter text, retrying transient failures up to retryCount attempts in total
+     */
+    @Step("Enter text '{text}' into element: {element} with retry count: {retryCount}")
+    protected void enterText(WebElement element, String text, int retryCount) {
+        try {
+            retryPolicy.withMaxAttempts(retryCount).run(driver, PageElements.describe(element), () -> {
+                waitForElementVisible(element);
+                element.clear();
+                element.sendKeys(text);
+                invalidateSnapshot();
+            });
+            logger.info("Successfully entered text '{}' into element: {}", text, element);
+        } catch (RuntimeException e) {
+            logger.error("Text entry failed for element: {}. Error: {}", element, e.getMessage());
+            captureScreenshot("TextEntryFailed_" + element.toString());
+            throw new RuntimeException("Failed to enter text within " + retryCount + " attempts: " + element, e);
+        }
+    }
+    
+    /**
+     * Get text from element
+     */
+    @Step("Get text from element: {element}")
+    protected String getText(WebElement element) {
+        try {
+            waitForElementVisible(element);
+            String text = element.getText();
+            logger.debug("Retrieved text '{}' from element: {}", text, element);
+            return text;
+        } catch (Exception e) {
+            logger.error("Failed to get text from element: {}", element, e);
+            captureScreenshot("GetTextFailed_" + element.toString());
+            throw new RuntimeException("Failed to get text from element: " + element, e);
+        }
+    }
+    
+    /**
+     * Get attribute value from element
+     */
+    @Step("Get attribute '{attribute}' from element: {element}")
+    protected String getAttribute(WebElement element, String attribute) {
+        try {
+            waitForElementVisible(element);
+            String value = element.getAttribute(attribute);
+            logger.debug("Retrieved attribute '{}' = '{}' from element: {}", attribute, value, element);
+            return value;
+        } catch (Exception e) {
+            logger.error("Failed to get attribute '{}' from element: {}", attribute, element, e);
+            throw new RuntimeException("Failed to get attribute from element: " + element, e);
+        }
+    }
+    
+    /**
+     * Select option from dropdown
+     */
+    @Step("Select option '{value}' from dropdown: {element}")
+    protected void selectByValue(WebElement element, String value) {
+        try {
+            waitForElementVisible(element);
+            Select select = new Select(element);
+            select.selectByValue(value);
+            invalidateSnapshot();
+            logger.info("Successfully selected option '{}' from dropdown: {}", value, element);
+        } catch (Exception e) {
+            logger.error("Failed to select option '{}' from dropdown: {}", value, element, e);
+            captureScreenshot("SelectFailed_" + element.toString());
+            throw new RuntimeException("Failed to select option from dropdown: " + element, e);
+        }
+    }
+    
+    @Step("Select option by visible text '{text}' from dropdown: {element}")
+    protected void selectByVisibleText(WebElement element, String text) {
+        try {
+            waitForElementVisible(element);
+            Select select = new Select(element);
+            select.selectByVisibleText(text);
+            invalidateSnapshot();
+            logger.info("Successfully selected option '{}' from dropdown: {}", text, element);
+        } catch (Exception e) {
+            logger.error("Failed to select option '{}' from dropdown: {}", text, element, e);
+            captureScreenshot("SelectFailed_" + element.toString());
+            throw new RuntimeException("Failed to select option from dropdown: " + element, e);
+        }
+    }
+    
+    /**
+     * Check if element is displayed
+     */
+    @Step("Check if element is displayed: {element}")
+    protected boolean isElementDisplayed(WebElement element) {
+        try {
+            return element.isDisplayed();
+        } catch (Exception e) {
+            logger.debug("Element not displayed: {}", element);
+            return false;
+        }
+    }
+    
+    /**
+     * Check if element is enabled
+     */
+    @Step("Check if element is enabled: {element}")
+    protected boolean isElementEnabled(WebElement element) {
+        try {
+            return element.isEnabled();
+        } catch (Exception e) {
+            logger.debug("Element not enabled: {}", element);
+            return false;
+        }
+    }
+    
+    /**
+     * Wait for page to load and settle: no pending fetch/XHR and no DOM changes for the configured quiet window
+     */
+    @Step("Wait for page to load")
+    protected void waitForPageLoad() {
+        try {
+            if (PageReadiness.awaitReady(driver)) {
+                logger.debug("Page loaded successfully");
+            }
+        } catch (Exception e) {
+            logger.warn("Page load wait failed: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Wait for custom condition
+     */
+    protected <T> T waitForCondition(ExpectedCondition<T> condition) {
+        return wait.until(condition);
+    }
+    
+    /**
+     * Wait for custom condition with timeout
+     */
+    protected <T> T waitForCondition(ExpectedCondition<T> condition, int timeoutSeconds) {
+        return waits.withTimeout(timeoutSeconds).until(condition);
+    }
+    
+    /**
+     * Wait until all browser-side conditions hold, checking them together in one script per poll
+     */
+    protected void waitForAll(WaitCondition... conditions) {
+        wait.untilAll(conditions);
+    }
+    
+    /**
+     * Snapshot of the page's {@link SnapshotRegion} fields, re-read only after a mutating action
+     */
+    protected PageSnapshot snapshot(String... requiredRegions) {
+        return snapshots.get(requiredRegions);
+    }
+    
+    /**
+     * Mark page snapshots of this session stale after an action outside the page helpers
+     */
+    protected void invalidateSnapshot() {
+        PageSnapshot.invalidate(driver);
+    }
+    
+    /**
+     * Queue fill, click and select steps to run together on flush, falling back to the helpers of this page
+     */
+    protected ActionBatch batch() {
+        return new ActionBatch(driver, wait, this::enterText, this::click, this::selectByValue);
+    }
+    
+    /**
+     * Scroll to element
+     */
+    @Step("Scroll to element: {element}")
+    protected void scrollToElement(WebElement element) {
+        try {
+            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
+            logger.debug("Scrolled to element: {}", element);
+        } catch (Exception e) {
+            logger.warn("Failed to scroll to element: {}", element, e);
+        }
+    }
+    
+    /**
+     * Execute JavaScript
+     */
+    @Step("Execute JavaScript: {script}")
+    protected Object executeJavaScript(String script, Object... args) {
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(script, args);
+            logger.debug("Executed JavaScript: {} with result: {}", script, result);
+            return result;
+        } catch (Exception e) {
+            logger.error("Failed to execute JavaScript: {}", script, e);
+            throw new RuntimeException("JavaScript execution failed: " + script, e);
+        }
+    }
+    
+    /**
+     * Get multiple element texts
+     */
+    @Step("Get first {count} element texts from: {elements}")
+    protected List<String> getElementTexts(List<WebElement> elements, int count) {
+        List<String> texts = ElementReader.texts(readElements(elements, count));
+        logger.debug("Retrieved {} texts from elements: {}", texts.size(), texts);
+        return texts;
+    }
+    
+    /**
+     * Read text, visibility and attributes of up to {@code count} elements in one script, waiting until they are visible
+     */
+    protected List<ElementReader.ElementData> readElements(List<WebElement> elements, int count, String... attributes) {
+        try {
+            return wait.until(webDriver -> visibleRows(ElementReader.read(webDriver, elements, count, attributes)));
+        } catch (TimeoutException e) {
+            logger.warn("Elements not all visible, reading current state: {}", e.getMessage());
+            return ElementReader.read(driver, elements, count, attributes);
+        }
+    }
+    
+    /**
+     * Read text, visibility and attributes of up to {@code count} elements matching a locator in one script
+     */
+    protected List<ElementReader.ElementData> readElements(By locator, int count, String... attributes) {
+        try {
+            return wait.until(webDriver -> visibleRows(ElementReader.read(webDriver, locator, count, attributes)));
+        } catch (TimeoutException e) {
+            logger.warn("Elements not all visible for {}, reading current state: {}", locator, e.getMessage());
+            return ElementReader.read(driver, locator, count, attributes);
+        }
+    }
+    
+    private static List<ElementReader.ElementData> visibleRows(List<ElementReader.ElementData> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        for (ElementReader.ElementData row : rows) {
+            if (!row.isVisible()) {
+                return null;
+            }
+        }
+        return rows;
+    }
+    
+    /**
+     * Check if prices are sorted low to high
+     */
+    @Step("Check if first {count} prices are sorted low to high")
+    protected boolean arePricesSortedLowToHigh(List<WebElement> priceElements, int count) {
+        PriceList prices;
+        try {
+            prices = readPrices(priceElements, count);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to parse prices: {}", e.getMessage());
+            return false;
+        }
+        
+        boolean isSorted = prices.isSortedAscending();
+        logger.debug("Price sorting check result: {} for prices: {}", isSorted, prices);
+        return isSorted;
+    }
+    
+    /**
+     * Read and parse up to {@code count} prices in one browser call
+     */
+    protected PriceList readPrices(List<WebElement> priceElements, int count) {
+        return PriceList.parse(getElementTexts(priceElements, count));
+    }
+    
+    /**
+     * Wait for specified seconds
+     * @deprecated fixed sleeps slow every run; wait for a condition with {@link #waitForAll} or retry with {@link #retryPolicy}
+     */
+    @Deprecated
+    protected void waitForSeconds(int seconds) {
+        try {
+            Thread.sleep(seconds * 1000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Thread interrupted during wait");
+        }
+    }
+    
+    /**
+     * Capture screenshot and attach to Allure report
+     */
+    protected void captureScreenshot(String name) {
+        if (!config.isScreenshotOnFailureEnabled()) {
+            return;
+        }
+
+        try {
+            // Only the capture runs here; the attachment content is written by the screenshot pipeline
+            if (ScreenshotPipeline.attach(driver, name + "_" + System.currentTimeMillis())) {
+                logger.debug("Screenshot captured: {}", name);
+            }
+
+        } catch (Exception e) {
+            logger.warn("Failed to capture screenshot: {}", name, e);
+        }
+    }
+
+    /**
+     * Capture only the element's area and attach it to Allure report
+     */
+    protected void captureElementScreenshot(WebElement element, String name) {
+        try {
+            if (ScreenshotPipeline.attach(element, name + "_" + System.currentTimeMillis())) {
+                logger.debug("Element screenshot captured: {}", name);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to capture element screenshot: {}", name, e);
+        }
+    }
+
+    
+    /**
+     * Get current page title
+     */
+    @Step("Get page title")
+    protected String getPageTitle() {
+        String title = driver.getTitle();
+        logger.debug("Page title: {}", title);
+        return title;
+    }
+    
+    /**
+     * Get current page URL
+     */
+    @Step("Get page URL")
+    protected String getPageUrl() {
+        String url = driver.getCurrentUrl();
+        logger.debug("Page URL: {}", url);
+        return url;
+    }
+    
+    /**
+     * Navigate to URL
+     */
+    @Step("Navigate to URL: {url}")
+    protected void navigateTo(String url) {
+        try {
+            driver.get(url);
+            invalidateSnapshot();
+            waitForPageLoad();
+            logger.info("Successfully navigated to: {}", url);
+        } catch (Exception e) {
+            logger.error("Failed to navigate to: {}", url, e);
+            throw new RuntimeException("Navigation failed: " + url, e);
+        }
+    }
+    
+    /**
+     * Refresh page
+     */
+    @Step("Refresh page")
+    protected void refreshPage() {
+        try {
+            driver.navigate().refresh();
+            invalidateSnapshot();
+            waitForPageLoad();
+            logger.info("Page refreshed successfully");
+        } catch (Exception e) {
+            logger.error("Failed to refresh page", e);
+            throw new RuntimeException("Page refresh failed", e);
+        }
+    }
+    
+    /**
+     * Get WebDriver instance
+     */
+    protected WebDriver getDriver() {
+        return driver;
+    }
 } 
\ No newline at end of file
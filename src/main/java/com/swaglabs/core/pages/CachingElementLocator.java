@@ -0,0 +1,120 @@
+package com.swaglabs.core.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.List;
+
+/**
+ * Element locator that keeps its last lookup for the current DOM generation of the session
+ * Lookups are repeated only after a mutating action, or after {@link #invalidate()} when an element went stale;
+ * empty results are never kept, since the elements may still be rendering. A cached list is also checked on every
+ * read, so lists the application fills in or re-renders by itself are found again
+ */
+public class CachingElementLocator implements ElementLocator {
+
+    // Whether the cached elements are all attached and the locator still matches exactly that many
+    private static final String LIST_CURRENT_SCRIPT =
+            "var cached = arguments[0], using = arguments[1], value = arguments[2], count;" +
+            "if (using === 'xpath') {" +
+            "  count = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null)" +
+            "      .snapshotLength;" +
+            "} else if (using === 'tag name') {" +
+            "  count = document.getElementsByTagName(value).length;" +
+            "} else if (using === 'id' || using === 'name') {" +
+            "  count = document.querySelectorAll('[' + using + '=\"' + CSS.escape(value) + '\"]').length;" +
+            "} else if (using === 'class name') {" +
+            "  count = document.querySelectorAll('.' + CSS.escape(value)).length;" +
+            "} else {" +
+            "  count = document.querySelectorAll(value).length;" +
+            "}" +
+            "if (count !== cached.length) return false;" +
+            "for (var i = 0; i < cached.length; i++) {" +
+            "  if (!cached[i] || !cached[i].isConnected) return false;" +
+            "}" +
+            "return true;";
+
+    private final WebDriver driver;
+    private final By by;
+    // Locator strategy and value the list check can evaluate in the page; null when lists are not cached
+    private final By.Remotable.Parameters listQuery;
+
+    private WebElement element;
+    private long elementGeneration = -1;
+    private List<WebElement> elements;
+    private long elementsGeneration = -1;
+
+    public CachingElementLocator(WebDriver driver, By by) {
+        this.driver = driver;
+        this.by = by;
+        this.listQuery = listQuery(driver, by);
+    }
+
+    @Override
+    public synchronized WebElement findElement() {
+        long generation = PageSnapshot.generation(driver);
+        if (element == null || elementGeneration != generation) {
+            element = driver.findElement(by);
+            elementGeneration = generation;
+        }
+        return element;
+    }
+
+    @Override
+    public synchronized List<WebElement> findElements() {
+        long generation = PageSnapshot.generation(driver);
+        if (elements != null && elementsGeneration == generation && isCurrent(elements)) {
+            return elements;
+        }
+        List<WebElement> found = driver.findElements(by);
+        if (found.isEmpty() || listQuery == null) {
+            // Not cached: waits polling for elements that render late must see them appear
+            elements = null;
+            return found;
+        }
+        elements = found;
+        elementsGeneration = generation;
+        return elements;
+    }
+
+    /**
+     * Drop the cached lookups so the next access finds the elements again
+     */
+    public synchronized void invalidate() {
+        element = null;
+        elements = null;
+    }
+
+    private boolean isCurrent(List<WebElement> cached) {
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(LIST_CURRENT_SCRIPT, cached,
+                    listQuery.using(), listQuery.value()));
+        } catch (RuntimeException e) {
+            // A stale argument or an invalid query; the caller looks the list up again
+            return false;
+        }
+    }
+
+    private static By.Remotable.Parameters listQuery(WebDriver driver, By by) {
+        if (!(driver instanceof JavascriptExecutor) || !(by instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        String using = parameters.using();
+        boolean supported = "css selector".equals(using) || "xpath".equals(using) || "tag name".equals(using)
+                || "id".equals(using) || "name".equals(using) || "class name".equals(using);
+        return supported && parameters.value() instanceof String ? parameters : null;
+    }
+
+    public By getBy() {
+        return by;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " '" + by + "'";
+    }
+}
@@ -0,0 +1,28 @@
+package com.swaglabs.core.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+
+/**
+ * Locator factory for {@link CachingElementLocator}, taking locators from the per-class field metadata
+ */
+public class CachingElementLocatorFactory implements ElementLocatorFactory {
+
+    private final WebDriver driver;
+
+    public CachingElementLocatorFactory(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    @Override
+    public CachingElementLocator createLocator(Field field) {
+        return createLocator(PageElements.locatorOf(field));
+    }
+
+    public CachingElementLocator createLocator(By by) {
+        return new CachingElementLocator(driver, by);
+    }
+}
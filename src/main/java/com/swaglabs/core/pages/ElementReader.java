@@ -0,0 +1,203 @@
+package com.swaglabs.core.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk reads of element text, visibility and attributes in a single JavaScript round-trip
+ * Replaces one getText/isDisplayed/getAttribute command per element with one executeScript per list
+ */
+public final class ElementReader {
+
+    /**
+     * Limit value that reads every matched element
+     */
+    public static final int ALL = -1;
+
+    // Each source is either a resolved element list or a [using, value] locator evaluated in the page
+    private static final String READ_SCRIPT =
+            "var elementLists = arguments[0], locators = arguments[1], limit = arguments[2], attrs = arguments[3];" +
+            "function find(index) {" +
+            "  if (elementLists[index]) return elementLists[index];" +
+            "  var using = locators[index][0], value = locators[index][1], found = [];" +
+            "  if (using === 'xpath') {" +
+            "    var result = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "    for (var k = 0; k < result.snapshotLength; k++) found.push(result.snapshotItem(k));" +
+            "    return found;" +
+            "  }" +
+            "  return document.querySelectorAll(value);" +
+            "}" +
+            "function row(e) {" +
+            "  var style = window.getComputedStyle(e);" +
+            "  var visible = e.isConnected && style.visibility !== 'hidden' && style.display !== 'none'" +
+            "      && Number(style.opacity) !== 0 && e.getClientRects().length > 0;" +
+            "  var attributes = {};" +
+            "  for (var j = 0; j < attrs.length; j++) attributes[attrs[j]] = e.getAttribute(attrs[j]);" +
+            "  var formValue = /^(INPUT|SELECT|TEXTAREA)$/.test(e.tagName) ? e.value : null;" +
+            "  return {text: visible ? (e.innerText || '').trim() : '', visible: visible, value: formValue, attributes: attributes};" +
+            "}" +
+            "var results = [];" +
+            "for (var s = 0; s < elementLists.length; s++) {" +
+            "  var found = find(s), rows = [];" +
+            "  for (var i = 0; i < found.length && (limit < 0 || i < limit); i++) rows.push(row(found[i]));" +
+            "  results.push(rows);" +
+            "}" +
+            "return results;";
+
+    private ElementReader() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Read up to {@code limit} elements of a list; a PageFactory list is resolved once before the script runs
+     */
+    public static List<ElementData> read(WebDriver driver, List<WebElement> elements, int limit, String... attributes) {
+        List<WebElement> found = new ArrayList<>(elements);
+        if (found.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (limit >= 0 && found.size() > limit) {
+            found = found.subList(0, limit);
+        }
+        return execute(driver, Collections.singletonList(found), Collections.singletonList(null), limit, attributes).get(0);
+    }
+
+    /**
+     * Read up to {@code limit} elements matching a locator, resolving CSS and XPath locators inside the same script
+     */
+    public static List<ElementData> read(WebDriver driver, By locator, int limit, String... attributes) {
+        return readAll(driver, Collections.singletonMap("", locator), limit, attributes).get("");
+    }
+
+    /**
+     * Read several named regions of a page in one script call, keyed as in the given map
+     */
+    public static Map<String, List<ElementData>> readAll(WebDriver driver, Map<String, By> regions, int limit,
+                                                          String... attributes) {
+        List<List<WebElement>> elementLists = new ArrayList<>(regions.size());
+        List<List<String>> locators = new ArrayList<>(regions.size());
+        for (By locator : regions.values()) {
+            List<String> remote = remoteLocator(locator);
+            locators.add(remote);
+            elementLists.add(remote == null ? driver.findElements(locator) : null);
+        }
+
+        List<List<ElementData>> results = execute(driver, elementLists, locators, limit, attributes);
+        Map<String, List<ElementData>> byRegion = new LinkedHashMap<>();
+        int index = 0;
+        for (String region : regions.keySet()) {
+            byRegion.put(region, results.get(index++));
+        }
+        return byRegion;
+    }
+
+    /**
+     * Texts of the rows, in document order
+     */
+    public static List<String> texts(List<ElementData> rows) {
+        List<String> texts = new ArrayList<>(rows.size());
+        for (ElementData row : rows) {
+            texts.add(row.getText());
+        }
+        return texts;
+    }
+
+    // CSS and XPath locators can be evaluated by the script itself; anything else is resolved by the driver first
+    private static List<String> remoteLocator(By locator) {
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if ("css selector".equals(parameters.using()) || "xpath".equals(parameters.using())) {
+                return Arrays.asList(parameters.using(), String.valueOf(parameters.value()));
+            }
+        }
+        return null;
+    }
+
+    private static List<List<ElementData>> execute(WebDriver driver, List<List<WebElement>> elementLists,
+                                                   List<List<String>> locators, int limit, String[] attributes) {
+        List<?> result = (List<?>) ((JavascriptExecutor) driver).executeScript(READ_SCRIPT,
+                elementLists, locators, limit, attributes);
+
+        List<List<ElementData>> sources = new ArrayList<>(elementLists.size());
+        for (int s = 0; s < elementLists.size(); s++) {
+            List<?> rawRows = result == null || s >= result.size() ? Collections.emptyList() : (List<?>) result.get(s);
+            List<ElementData> rows = new ArrayList<>(rawRows.size());
+            for (Object item : rawRows) {
+                rows.add(toElementData((Map<?, ?>) item, attributes));
+            }
+            sources.add(rows);
+        }
+        return sources;
+    }
+
+    private static ElementData toElementData(Map<?, ?> row, String[] attributes) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<?, ?> rawAttributes = (Map<?, ?>) row.get("attributes");
+        for (String attribute : attributes) {
+            Object attributeValue = rawAttributes == null ? null : rawAttributes.get(attribute);
+            values.put(attribute, attributeValue == null ? null : String.valueOf(attributeValue));
+        }
+        Object formValue = row.get("value");
+        return new ElementData(String.valueOf(row.get("text")), Boolean.TRUE.equals(row.get("visible")),
+                formValue == null ? null : String.valueOf(formValue), values);
+    }
+
+    /* ===================== Inner Class ===================== */
+
+    /**
+     * Immutable view of one element as read by the bulk script
+     */
+    public static class ElementData {
+        private final String text;
+        private final boolean visible;
+        private final String value;
+        private final Map<String, String> attributes;
+
+        ElementData(String text, boolean visible, String value, Map<String, String> attributes) {
+            this.text = text;
+            this.visible = visible;
+            this.value = value;
+            this.attributes = Collections.unmodifiableMap(attributes);
+        }
+
+        /**
+         * Rendered text, trimmed; empty for hidden elements as with WebElement.getText
+         */
+        public String getText() {
+            return text;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        /**
+         * Current value of an input, select or textarea; null for other elements
+         */
+        public String getValue() {
+            return value;
+        }
+
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public String toString() {
+            return "ElementData{text='" + text + "', visible=" + visible + ", value=" + value + ", attributes=" + attributes + '}';
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.swaglabs.core.pages;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites simple XPath locators into equivalent ID or CSS selectors, which every driver resolves faster
+ * Covers descendant/child paths of tag steps with attribute predicates; anything else is kept as XPath and reported
+ */
+public final class LocatorCompiler {
+    private static final Logger logger = LogManager.getLogger(LocatorCompiler.class);
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_-]*");
+    private static final Pattern CSS_IDENTIFIER = Pattern.compile("-?[A-Za-z_][A-Za-z0-9_-]*");
+
+    private static final ConcurrentHashMap<String, String> untranslated = new ConcurrentHashMap<>();
+
+    private LocatorCompiler() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Compiled locator of a page field, reporting XPaths that had to be kept
+     */
+    public static By compile(Field field, By locator) {
+        String xpath = xpathOf(locator);
+        if (xpath == null) {
+            return locator;
+        }
+        String location = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+        Result result = translate(xpath);
+        if (result.isTranslated()) {
+            logger.debug("Compiled locator of {}: {} -> {}", location, xpath, result.getBy());
+        } else {
+            untranslated.put(location, xpath + " (" + result.getReason() + ")");
+            logger.warn("Locator of {} kept as XPath, {}: {}", location, result.getReason(), xpath);
+        }
+        return result.getBy();
+    }
+
+    /**
+     * Compiled form of a locator, or the locator itself when it is not a translatable XPath
+     */
+    public static By compile(By locator) {
+        String xpath = xpathOf(locator);
+        return xpath == null ? locator : translate(xpath).getBy();
+    }
+
+    /**
+     * Page fields whose XPath could not be translated, with the reason
+     */
+    public static Map<String, String> getUntranslated() {
+        return Collections.unmodifiableMap(new TreeMap<>(untranslated));
+    }
+
+    /**
+     * Translate an XPath expression, or explain why it cannot be translated
+     */
+    public static Result translate(String xpath) {
+        try {
+            return new Parser(xpath.trim()).parse();
+        } catch (UntranslatableException e) {
+            return new Result(By.xpath(xpath), false, e.getMessage());
+        }
+    }
+
+    private static String xpathOf(By locator) {
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if ("xpath".equals(parameters.using())) {
+                return String.valueOf(parameters.value());
+            }
+        }
+        return null;
+    }
+
+    /* ===================== Inner Classes ===================== */
+
+    /**
+     * Outcome of translating one XPath expression
+     */
+    public static class Result {
+        private final By by;
+        private final boolean translated;
+        private final String reason;
+
+        Result(By by, boolean translated, String reason) {
+            this.by = by;
+            this.translated = translated;
+            this.reason = reason;
+        }
+
+        public By getBy() {
+            return by;
+        }
+
+        public boolean isTranslated() {
+            return translated;
+        }
+
+        /**
+         * Why the expression was kept as XPath; null when it was translated
+         */
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return translated ? String.valueOf(by) : by + " (" + reason + ")";
+        }
+    }
+
+    private static class UntranslatableException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UntranslatableException(String reason) {
+            super(reason);
+        }
+    }
+
+    /**
+     * Recursive-descent parser for the supported XPath subset:
+     * ('//' | '/') step, steps of tag or '*', predicates of @attr, @attr='v', contains(@attr,'v'),
+     * starts-with(@attr,'v') joined with 'and'
+     */
+    private static class Parser {
+        private final String xpath;
+        private final StringBuilder css = new StringBuilder();
+        private int pos;
+        private int steps;
+        private String onlyId;
+        private boolean onlyIdStep;
+
+        Parser(String xpath) {
+            this.xpath = xpath;
+        }
+
+        Result parse() {
+            if (!xpath.startsWith("//")) {
+                throw new UntranslatableException("only paths starting with // are translated");
+            }
+            while (pos < xpath.length()) {
+                if (xpath.startsWith("//", pos)) {
+                    pos += 2;
+                    css.append(steps == 0 ? "" : " ");
+                } else if (xpath.startsWith("/", pos)) {
+                    pos += 1;
+                    css.append(" > ");
+                } else if (xpath.indexOf('|', pos) >= 0) {
+                    throw new UntranslatableException("'or' and unions are not translated");
+                } else {
+                    throw new UntranslatableException("unexpected '" + xpath.charAt(pos) + "' at " + pos);
+                }
+                step();
+                steps++;
+            }
+            if (steps == 1 && onlyIdStep && onlyId != null) {
+                return new Result(By.id(onlyId), true, null);
+            }
+            return new Result(By.cssSelector(css.toString()), true, null);
+        }
+
+        private void step() {
+            String tag;
+            if (peek('*')) {
+                pos++;
+                tag = "*";
+            } else {
+                tag = name("element name");
+            }
+            if (peek('(') || xpath.startsWith("::", pos)) {
+                throw new UntranslatableException("axes and node tests such as " + tag + "() are not translated");
+            }
+            css.append(tag);
+
+            int predicates = 0;
+            String id = null;
+            boolean idOnly = true;
+            while (peek('[')) {
+                pos++;
+                do {
+                    skipSpaces();
+                    String condition = condition();
+                    if (condition.startsWith("#")) {
+                        id = condition.substring(1);
+                    } else {
+                        idOnly = false;
+                    }
+                    predicates++;
+                    skipSpaces();
+                } while (keyword("and"));
+                expect(']');
+            }
+            onlyIdStep = "*".equals(tag) && predicates == 1 && idOnly;
+            onlyId = onlyIdStep ? id : null;
+        }
+
+        // Appends one condition to the selector; returns "#id" for an exact id match so a lone id step can become By.id
+        private String condition() {
+            if (peek('@')) {
+                pos++;
+                String attribute = name("attribute name");
+                skipSpaces();
+                if (!peek('=')) {
+                    css.append('[').append(attribute).append(']');
+                    return attribute;
+                }
+                pos++;
+                skipSpaces();
+                String value = literal();
+                if ("id".equals(attribute) && CSS_IDENTIFIER.matcher(value).matches()) {
+                    css.append('#').append(value);
+                    return "#" + value;
+                }
+                css.append('[').append(attribute).append("='").append(escape(value)).append("']");
+                return attribute;
+            }
+            if (Character.isDigit(current())) {
+                throw new UntranslatableException("positional predicates are not translated");
+            }
+            String function = name("function name");
+            String operator;
+            if ("contains".equals(function)) {
+                operator = "*=";
+            } else if ("starts-with".equals(function)) {
+                operator = "^=";
+            } else {
+                throw new UntranslatableException(function + "() is not translated");
+            }
+            expect('(');
+            skipSpaces();
+            if (!peek('@')) {
+                throw new UntranslatableException(function + "() is only translated for attributes");
+            }
+            pos++;
+            String attribute = name("attribute name");
+            skipSpaces();
+            expect(',');
+            skipSpaces();
+            String value = literal();
+            if (value.isEmpty()) {
+                throw new UntranslatableException(function + "() with an empty string is not translated");
+            }
+            skipSpaces();
+            expect(')');
+            css.append('[').append(attribute).append(operator).append('\'').append(escape(value)).append("']");
+            return attribute;
+        }
+
+        private String name(String what) {
+            Matcher matcher = NAME.matcher(xpath).region(pos, xpath.length());
+            if (!matcher.lookingAt()) {
+                throw new UntranslatableException("expected " + what + " at " + pos);
+            }
+            pos = matcher.end();
+            return matcher.group();
+        }
+
+        private String literal() {
+            char quote = current();
+            if (quote != '\'' && quote != '"') {
+                throw new UntranslatableException("only string literals are translated in comparisons");
+            }
+            int end = xpath.indexOf(quote, pos + 1);
+            if (end < 0) {
+                throw new UntranslatableException("unterminated string literal");
+            }
+            String value = xpath.substring(pos + 1, end);
+            pos = end + 1;
+            return value;
+        }
+
+        private boolean keyword(String word) {
+            if (xpath.startsWith(word, pos) && pos + word.length() < xpath.length()
+                    && Character.isWhitespace(xpath.charAt(pos + word.length()))) {
+                pos += word.length();
+                return true;
+            }
+            if (xpath.startsWith("or", pos) || peek('|')) {
+                throw new UntranslatableException("'or' and unions are not translated");
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!peek(c)) {
+                throw new UntranslatableException("expected '" + c + "' at " + pos);
+            }
+            pos++;
+        }
+
+        private boolean peek(char c) {
+            return pos < xpath.length() && xpath.charAt(pos) == c;
+        }
+
+        private char current() {
+            return pos < xpath.length() ? xpath.charAt(pos) : '\0';
+        }
+
+        private void skipSpaces() {
+            while (pos < xpath.length() && Character.isWhitespace(xpath.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("'", "\\'").replace("\n", "\\a ");
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.swaglabs.core.pages;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replacement for PageFactory.initElements backed by {@link CachingElementLocator}
+ * Field metadata, including compiled locators, is built once per page class; element proxies re-resolve transparently when an element went stale
+ */
+public final class PageElements {
+
+    private static final Class<?>[] ELEMENT_INTERFACES = {WebElement.class, WrapsElement.class, Locatable.class};
+    private static final ConcurrentHashMap<Class<?>, List<ElementField>> fieldsByPage = new ConcurrentHashMap<>();
+
+    private PageElements() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Assign caching element proxies to every WebElement and annotated List&lt;WebElement&gt; field of the page
+     */
+    public static void initElements(WebDriver driver, Object page) {
+        CachingElementLocatorFactory factory = new CachingElementLocatorFactory(driver);
+        ClassLoader loader = page.getClass().getClassLoader();
+        for (ElementField elementField : fieldsOf(page.getClass())) {
+            CachingElementLocator locator = factory.createLocator(elementField.getBy());
+            Object proxy = elementField.isList() ? proxyForList(loader, locator) : proxyForElement(loader, locator);
+            try {
+                elementField.field.set(page, proxy);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Failed to initialize element field: " + elementField.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Element fields of a page class and its superclasses, resolved once per class
+     */
+    public static List<ElementField> fieldsOf(Class<?> pageClass) {
+        return fieldsByPage.computeIfAbsent(pageClass, PageElements::scan);
+    }
+
+    /**
+     * Stable description of an element for logs and metrics: its locator, plus the index for list entries
+     * Elements that were not created by this class are described by their own toString
+     */
+    public static String describe(WebElement element) {
+        if (element != null && Proxy.isProxyClass(element.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(element);
+            if (handler instanceof ElementHandler) {
+                ElementHandler elementHandler = (ElementHandler) handler;
+                By by = elementHandler.locator.getBy();
+                return elementHandler.index < 0 ? String.valueOf(by) : by + " [" + elementHandler.index + "]";
+            }
+        }
+        return String.valueOf(element);
+    }
+
+    static By locatorOf(Field field) {
+        for (ElementField elementField : fieldsOf(field.getDeclaringClass())) {
+            if (elementField.field.equals(field)) {
+                return elementField.getBy();
+            }
+        }
+        return new Annotations(field).buildBy();
+    }
+
+    private static List<ElementField> scan(Class<?> pageClass) {
+        boolean compileLocators = ConfigurationManager.getInstance().isCompileLocators();
+        List<ElementField> fields = new ArrayList<>();
+        for (Class<?> current = pageClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    continue;
+                }
+                boolean list = isElementList(field);
+                if (list || WebElement.class.equals(field.getType())) {
+                    field.setAccessible(true);
+                    By by = new Annotations(field).buildBy();
+                    fields.add(new ElementField(field, compileLocators ? LocatorCompiler.compile(field, by) : by, list));
+                }
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    // Same rule as Selenium's DefaultFieldDecorator: lists are only decorated when they carry a locator annotation
+    private static boolean isElementList(Field field) {
+        if (!List.class.equals(field.getType())) {
+            return false;
+        }
+        Type genericType = field.getGenericType();
+        if (!(genericType instanceof ParameterizedType)
+                || !WebElement.class.equals(((ParameterizedType) genericType).getActualTypeArguments()[0])) {
+            return false;
+        }
+        return field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                || field.isAnnotationPresent(FindAll.class);
+    }
+
+    private static WebElement proxyForElement(ClassLoader loader, CachingElementLocator locator) {
+        return (WebElement) Proxy.newProxyInstance(loader, ELEMENT_INTERFACES, new ElementHandler(locator, -1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<WebElement> proxyForList(ClassLoader loader, CachingElementLocator locator) {
+        return (List<WebElement>) Proxy.newProxyInstance(loader, new Class<?>[]{List.class}, new ListHandler(loader, locator));
+    }
+
+    /* ===================== Inner Classes ===================== */
+
+    /**
+     * Reflective metadata of one element field
+     */
+    public static class ElementField {
+        private final Field field;
+        private final By by;
+        private final boolean list;
+
+        ElementField(Field field, By by, boolean list) {
+            this.field = field;
+            this.by = by;
+            this.list = list;
+        }
+
+        public String getName() {
+            return field.getName();
+        }
+
+        public By getBy() {
+            return by;
+        }
+
+        public boolean isList() {
+            return list;
+        }
+
+        public boolean isAnnotationPresent(Class<? extends Annotation> annotation) {
+            return field.isAnnotationPresent(annotation);
+        }
+    }
+
+    /**
+     * Forwards to the cached element (or the element at an index of the cached list), retrying once when it went stale
+     */
+    private static class ElementHandler implements InvocationHandler {
+        private final CachingElementLocator locator;
+        private final int index;
+
+        ElementHandler(CachingElementLocator locator, int index) {
+            this.locator = locator;
+            this.index = index;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            for (int attempt = 1; ; attempt++) {
+                WebElement element;
+                try {
+                    element = resolve();
+                } catch (NoSuchElementException e) {
+                    if ("toString".equals(method.getName())) {
+                        return "Proxy element for: " + locator;
+                    }
+                    throw e;
+                }
+                if ("getWrappedElement".equals(method.getName())) {
+                    return element;
+                }
+                try {
+                    return method.invoke(element, args);
+                } catch (InvocationTargetException e) {
+                    if (e.getCause() instanceof StaleElementReferenceException && attempt == 1) {
+                        locator.invalidate();
+                        continue;
+                    }
+                    throw e.getCause();
+                }
+            }
+        }
+
+        private WebElement resolve() {
+            if (index < 0) {
+                return locator.findElement();
+            }
+            List<WebElement> elements = locator.findElements();
+            if (index >= elements.size()) {
+                throw new NoSuchElementException("No element at index " + index + " for " + locator);
+            }
+            return elements.get(index);
+        }
+    }
+
+    /**
+     * Exposes the cached list as element proxies so each entry can re-resolve after going stale
+     */
+    private static class ListHandler implements InvocationHandler {
+        private final ClassLoader loader;
+        private final CachingElementLocator locator;
+        private List<WebElement> resolved;
+        private List<WebElement> view;
+
+        ListHandler(ClassLoader loader, CachingElementLocator locator) {
+            this.loader = loader;
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(view(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private synchronized List<WebElement> view() {
+            List<WebElement> elements = locator.findElements();
+            if (elements != resolved) {
+                List<WebElement> proxies = new ArrayList<>(elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    proxies.add((WebElement) Proxy.newProxyInstance(loader, ELEMENT_INTERFACES, new ElementHandler(locator, i)));
+                }
+                resolved = elements;
+                view = Collections.unmodifiableList(proxies);
+            }
+            return view;
+        }
+    }
+}
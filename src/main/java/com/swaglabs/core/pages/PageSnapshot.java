@@ -0,0 +1,186 @@
+package com.swaglabs.core.pages;
+
+import com.swaglabs.core.wait.SmartWait;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable model of a page's {@link SnapshotRegion} fields, read in one script call
+ * A snapshot stays current until a mutating action on the same session bumps the session generation
+ */
+public final class PageSnapshot {
+
+    // Weak keys: drivers that tests create and quit themselves are never detached
+    private static final Map<WebDriver, AtomicLong> sessionGenerations = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ConcurrentHashMap<Class<?>, Map<String, By>> regionsByPage = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final long generation;
+    private final Map<String, List<ElementReader.ElementData>> regions;
+
+    private PageSnapshot(WebDriver driver, long generation, Map<String, List<ElementReader.ElementData>> regions) {
+        this.driver = driver;
+        this.generation = generation;
+        this.regions = Collections.unmodifiableMap(regions);
+    }
+
+    /**
+     * Read all regions in one script call
+     */
+    public static PageSnapshot capture(WebDriver driver, Map<String, By> regions) {
+        long generation = generation(driver);
+        return new PageSnapshot(driver, generation, ElementReader.readAll(driver, regions, ElementReader.ALL));
+    }
+
+    /**
+     * Locators of the {@link SnapshotRegion} fields of a page class and its superclasses, built once per class
+     */
+    public static Map<String, By> regionsOf(Class<?> pageClass) {
+        return regionsByPage.computeIfAbsent(pageClass, type -> {
+            Map<String, By> regions = new LinkedHashMap<>();
+            for (PageElements.ElementField field : PageElements.fieldsOf(type)) {
+                if (field.isAnnotationPresent(SnapshotRegion.class)) {
+                    regions.putIfAbsent(field.getName(), field.getBy());
+                }
+            }
+            return Collections.unmodifiableMap(regions);
+        });
+    }
+
+    /**
+     * Current generation of a session's DOM as seen by the page objects; 0 until the session is first invalidated
+     */
+    public static long generation(WebDriver driver) {
+        AtomicLong generation = sessionGenerations.get(driver);
+        return generation == null ? 0 : generation.get();
+    }
+
+    /**
+     * Mark every snapshot of the session stale; called after clicks, typing, selection and navigation
+     */
+    public static void invalidate(WebDriver driver) {
+        if (driver != null) {
+            sessionGenerations.computeIfAbsent(driver, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Forget the generation of a session that is being quit
+     */
+    public static void detach(WebDriver driver) {
+        if (driver != null) {
+            sessionGenerations.remove(driver);
+        }
+    }
+
+    public boolean isCurrent() {
+        return generation == generation(driver);
+    }
+
+    /**
+     * Whether every named region has at least one visible element
+     */
+    public boolean hasAll(String... regionNames) {
+        for (String region : regionNames) {
+            boolean visible = false;
+            for (ElementReader.ElementData row : rows(region)) {
+                visible |= row.isVisible();
+            }
+            if (!visible) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<ElementReader.ElementData> rows(String region) {
+        List<ElementReader.ElementData> rows = regions.get(region);
+        if (rows == null) {
+            throw new IllegalArgumentException("No snapshot region named '" + region + "', known regions: " + regions.keySet());
+        }
+        return rows;
+    }
+
+    public List<String> texts(String region) {
+        return ElementReader.texts(rows(region));
+    }
+
+    /**
+     * Texts of the first {@code count} elements of a region
+     */
+    public List<String> texts(String region, int count) {
+        List<String> texts = texts(region);
+        return count >= 0 && texts.size() > count ? texts.subList(0, count) : texts;
+    }
+
+    /**
+     * Text of the first element of a region, empty when the region has none
+     */
+    public String text(String region) {
+        List<ElementReader.ElementData> rows = rows(region);
+        return rows.isEmpty() ? "" : rows.get(0).getText();
+    }
+
+    /**
+     * Current values of the form fields in a region
+     */
+    public List<String> values(String region) {
+        List<String> values = new ArrayList<>();
+        for (ElementReader.ElementData row : rows(region)) {
+            values.add(row.getValue());
+        }
+        return values;
+    }
+
+    public PriceList prices(String region) {
+        return PriceList.parse(texts(region));
+    }
+
+    @Override
+    public String toString() {
+        return "PageSnapshot{generation=" + generation + ", regions=" + regions + '}';
+    }
+
+    /* ===================== Inner Class ===================== */
+
+    /**
+     * Per-page holder that reuses the last snapshot while it is current and has the regions a caller needs
+     */
+    public static class Cache {
+        private final WebDriver driver;
+        private final Map<String, By> regions;
+        private final SmartWait wait;
+        private volatile PageSnapshot snapshot;
+
+        public Cache(WebDriver driver, Class<?> pageClass, SmartWait wait) {
+            this.driver = driver;
+            this.regions = regionsOf(pageClass);
+            this.wait = wait;
+        }
+
+        /**
+         * Current snapshot, re-read and waited for until the required regions show a visible element
+         */
+        public PageSnapshot get(String... requiredRegions) {
+            PageSnapshot current = snapshot;
+            if (current != null && current.isCurrent() && current.hasAll(requiredRegions)) {
+                return current;
+            }
+            current = wait.until(webDriver -> {
+                PageSnapshot taken = capture(webDriver, regions);
+                return taken.hasAll(requiredRegions) ? taken : null;
+            });
+            snapshot = current;
+            return current;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.swaglabs.core.pages;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable snapshot of displayed prices, parsed once into primitive values
+ * Order checks are a single linear pass and totals are exact decimals computed from the same snapshot
+ */
+public final class PriceList {
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final int SCALE_BITS = 4;
+    private static final long SLOW_PATH = Long.MIN_VALUE;
+
+    private final double[] values;
+    // Exact amounts as unscaled minor units, e.g. 2999 at scale 2; null when an amount was too long for a long
+    private final long[] unscaled;
+    private final int[] scales;
+    private final String currency;
+
+    private PriceList(double[] values, long[] unscaled, int[] scales, String currency) {
+        this.values = values;
+        this.unscaled = unscaled;
+        this.scales = scales;
+        this.currency = currency;
+    }
+
+    /**
+     * Parse price texts such as "$29.99" or "Item total: $1,234.50" into a snapshot
+     * All texts must carry the same currency symbol, or none at all; a text without an amount is rejected
+     */
+    public static PriceList parse(List<String> texts) {
+        int size = texts.size();
+        double[] values = new double[size];
+        long[] unscaled = new long[size];
+        int[] scales = new int[size];
+        boolean exact = true;
+        String currency = null;
+        for (int i = 0; i < size; i++) {
+            String text = texts.get(i);
+            int start = numberStart(text);
+            String symbol = text.substring(currencyStart(text, start), trimEnd(text, start));
+            if (currency == null) {
+                currency = symbol;
+            } else if (!currency.equals(symbol)) {
+                // A text without a symbol next to texts with one is as ambiguous as two different symbols
+                throw new IllegalArgumentException("Mixed currencies in price list: '" + texts.get(0) + "' and '"
+                        + text + "'");
+            }
+            long packed = parseUnscaled(text, start);
+            if (packed == SLOW_PATH) {
+                values[i] = parseSlow(text, start);
+                exact = false;
+            } else {
+                unscaled[i] = packed >> SCALE_BITS;
+                scales[i] = (int) (packed & ((1 << SCALE_BITS) - 1));
+                values[i] = (double) unscaled[i] / POWERS_OF_TEN[scales[i]];
+            }
+        }
+        return new PriceList(values, exact ? unscaled : null, scales, currency == null ? "" : currency);
+    }
+
+    /**
+     * Parse a single price text, ignoring any label and currency symbol before the amount
+     */
+    public static double parsePrice(String text) {
+        int start = numberStart(text);
+        long packed = parseUnscaled(text, start);
+        if (packed == SLOW_PATH) {
+            return parseSlow(text, start);
+        }
+        return (double) (packed >> SCALE_BITS) / POWERS_OF_TEN[(int) (packed & ((1 << SCALE_BITS) - 1))];
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public double get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Currency symbol in front of the amounts, empty when there is none
+     */
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Copy of the parsed values
+     */
+    public double[] toArray() {
+        return values.clone();
+    }
+
+    public boolean isSortedAscending() {
+        return isSortedAscending(values.length);
+    }
+
+    /**
+     * Whether the first {@code count} prices never decrease
+     */
+    public boolean isSortedAscending(int count) {
+        int limit = Math.min(count, values.length);
+        for (int i = 1; i < limit; i++) {
+            if (values[i] < values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isSortedDescending() {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Exact sum of all prices
+     */
+    public BigDecimal total() {
+        if (unscaled == null) {
+            BigDecimal total = BigDecimal.ZERO;
+            for (double value : values) {
+                total = total.add(BigDecimal.valueOf(value));
+            }
+            return total;
+        }
+        int scale = 0;
+        for (int value : scales) {
+            scale = Math.max(scale, value);
+        }
+        long sum = 0;
+        for (int i = 0; i < unscaled.length; i++) {
+            sum = Math.addExact(sum, Math.multiplyExact(unscaled[i], POWERS_OF_TEN[scale - scales[i]]));
+        }
+        return BigDecimal.valueOf(sum, scale);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceList{currency='" + currency + "', values=" + Arrays.toString(values) + '}';
+    }
+
+    // The amount follows the first currency symbol; without one, e.g. "Item 2 total: 29.99", it is the last number
+    private static int numberStart(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("No amount in price text: '" + text + "'");
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.getType(text.charAt(i)) == Character.CURRENCY_SYMBOL) {
+                int start = firstNumberFrom(text, i + 1);
+                if (start >= 0) {
+                    return start;
+                }
+                break;
+            }
+        }
+        return lastNumberStart(text);
+    }
+
+    private static int firstNumberFrom(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isDigit(c) || (c == '-' && i + 1 < text.length() && Character.isDigit(text.charAt(i + 1)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastNumberStart(String text) {
+        int end = text.length();
+        while (end > 0 && !Character.isDigit(text.charAt(end - 1))) {
+            end--;
+        }
+        if (end == 0) {
+            throw new IllegalArgumentException("No amount in price text: '" + text + "'");
+        }
+        int start = end - 1;
+        while (start > 0 && (Character.isDigit(text.charAt(start - 1)) || text.charAt(start - 1) == '.'
+                || text.charAt(start - 1) == ',')) {
+            start--;
+        }
+        while (!Character.isDigit(text.charAt(start))) {
+            start++;
+        }
+        return start > 0 && text.charAt(start - 1) == '-' ? start - 1 : start;
+    }
+
+    private static int trimEnd(String text, int start) {
+        int end = start;
+        while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int currencyStart(String text, int start) {
+        int begin = trimEnd(text, start);
+        while (begin > 0 && Character.getType(text.charAt(begin - 1)) == Character.CURRENCY_SYMBOL) {
+            begin--;
+        }
+        return begin;
+    }
+
+    /**
+     * Digits accumulated into unscaled minor units without substring or regex allocation, packed with their scale
+     * in the low SCALE_BITS; SLOW_PATH when the amount does not fit the fast path
+     */
+    private static long parseUnscaled(String text, int start) {
+        boolean negative = text.charAt(start) == '-';
+        long digits = 0;
+        int scale = -1;
+        int digitCount = 0;
+        for (int i = negative ? start + 1 : start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = digits * 10 + (c - '0');
+                digitCount++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else if (c != ',') {
+                break;
+            }
+        }
+        if (digitCount > MAX_FAST_DIGITS || scale >= POWERS_OF_TEN.length) {
+            return SLOW_PATH;
+        }
+        return ((negative ? -digits : digits) << SCALE_BITS) | Math.max(scale, 0);
+    }
+
+    private static double parseSlow(String text, int start) {
+        int end = start + 1;
+        while (end < text.length() && (Character.isDigit(text.charAt(end)) || text.charAt(end) == '.' || text.charAt(end) == ',')) {
+            end++;
+        }
+        return Double.parseDouble(text.substring(start, end).replace(",", ""));
+    }
+}
@@ -0,0 +1,15 @@
+package com.swaglabs.core.pages;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code @FindBy} field as part of the page snapshot
+ * The region is read together with the page's other regions and keyed by the field name
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface SnapshotRegion {
+}
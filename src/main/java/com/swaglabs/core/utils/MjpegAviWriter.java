@@ -0,0 +1,116 @@
+package com.swaglabs.core.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Wraps JPEG frames into a Motion-JPEG AVI without re-encoding them
+ * A null frame repeats the previous image as an empty chunk, so a constant frame rate costs no extra image data
+ */
+public final class MjpegAviWriter {
+
+    private static final int AVIF_HASINDEX = 0x10;
+    private static final int AVIIF_KEYFRAME = 0x10;
+    // hdrl list content: 'hdrl', avih chunk and the strl list with strh and strf chunks
+    private static final int HDRL_SIZE = 4 + (8 + 56) + (8 + 4 + (8 + 56) + (8 + 40));
+
+    private MjpegAviWriter() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * AVI file of the given frames at a constant rate; the first frame must not be null
+     */
+    public static byte[] write(List<byte[]> frames, int framesPerSecond, int width, int height) {
+        if (frames.isEmpty() || frames.get(0) == null) {
+            throw new IllegalArgumentException("A video needs a first frame");
+        }
+        int moviSize = 4;
+        int maxFrameSize = 0;
+        for (byte[] frame : frames) {
+            int length = frame == null ? 0 : frame.length;
+            moviSize += 8 + length + (length & 1);
+            maxFrameSize = Math.max(maxFrameSize, length);
+        }
+        int indexSize = 16 * frames.size();
+        int riffSize = 4 + (8 + HDRL_SIZE) + (8 + moviSize) + (8 + indexSize);
+
+        ByteBuffer out = ByteBuffer.allocate(8 + riffSize).order(ByteOrder.LITTLE_ENDIAN);
+        fourCc(out, "RIFF").putInt(riffSize);
+        fourCc(out, "AVI ");
+
+        fourCc(out, "LIST").putInt(HDRL_SIZE);
+        fourCc(out, "hdrl");
+        fourCc(out, "avih").putInt(56);
+        out.putInt(1_000_000 / framesPerSecond)
+                .putInt(maxFrameSize * framesPerSecond)
+                .putInt(0)
+                .putInt(AVIF_HASINDEX)
+                .putInt(frames.size())
+                .putInt(0)
+                .putInt(1)
+                .putInt(maxFrameSize)
+                .putInt(width)
+                .putInt(height)
+                .putInt(0).putInt(0).putInt(0).putInt(0);
+
+        fourCc(out, "LIST").putInt(4 + (8 + 56) + (8 + 40));
+        fourCc(out, "strl");
+        fourCc(out, "strh").putInt(56);
+        fourCc(out, "vids");
+        fourCc(out, "MJPG");
+        out.putInt(0)
+                .putShort((short) 0).putShort((short) 0)
+                .putInt(0)
+                .putInt(1)
+                .putInt(framesPerSecond)
+                .putInt(0)
+                .putInt(frames.size())
+                .putInt(maxFrameSize)
+                .putInt(-1)
+                .putInt(0)
+                .putShort((short) 0).putShort((short) 0).putShort((short) width).putShort((short) height);
+        fourCc(out, "strf").putInt(40);
+        out.putInt(40)
+                .putInt(width)
+                .putInt(height)
+                .putShort((short) 1)
+                .putShort((short) 24);
+        fourCc(out, "MJPG");
+        out.putInt(width * height * 3)
+                .putInt(0).putInt(0).putInt(0).putInt(0);
+
+        fourCc(out, "LIST").putInt(moviSize);
+        int moviStart = out.position();
+        fourCc(out, "movi");
+        int[] offsets = new int[frames.size()];
+        for (int i = 0; i < frames.size(); i++) {
+            byte[] frame = frames.get(i);
+            int length = frame == null ? 0 : frame.length;
+            offsets[i] = out.position() - moviStart;
+            fourCc(out, "00dc").putInt(length);
+            if (frame != null) {
+                out.put(frame);
+                if ((length & 1) == 1) {
+                    out.put((byte) 0);
+                }
+            }
+        }
+
+        fourCc(out, "idx1").putInt(indexSize);
+        for (int i = 0; i < frames.size(); i++) {
+            byte[] frame = frames.get(i);
+            fourCc(out, "00dc")
+                    .putInt(frame == null ? 0 : AVIIF_KEYFRAME)
+                    .putInt(offsets[i])
+                    .putInt(frame == null ? 0 : frame.length);
+        }
+        return out.array();
+    }
+
+    private static ByteBuffer fourCc(ByteBuffer out, String code) {
+        return out.put(code.getBytes(StandardCharsets.US_ASCII));
+    }
+}
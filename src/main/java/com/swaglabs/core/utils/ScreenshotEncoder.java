@@ -0,0 +1,178 @@
+package com.swaglabs.core.utils;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Re-encodes captured PNG screenshots into the configured format, resolution and colour mode
+ * Encoding runs on the screenshot writers; with the default png mode the captured bytes are kept as they are
+ */
+public final class ScreenshotEncoder {
+    private static final Logger logger = LogManager.getLogger(ScreenshotEncoder.class);
+
+    private final Format format;
+    private final float quality;
+    private final double scale;
+    private final boolean grayscale;
+
+    public ScreenshotEncoder(String format, double quality, double scale, boolean grayscale) {
+        this.format = Format.resolve(format);
+        this.quality = (float) Math.max(0.0, Math.min(1.0, quality));
+        this.scale = scale > 0 && scale <= 1.0 ? scale : 1.0;
+        this.grayscale = grayscale;
+        if (scale != this.scale) {
+            logger.warn("Screenshot scale {} outside (0, 1], keeping the captured resolution", scale);
+        }
+    }
+
+    /**
+     * Encoder of the environment's screenshotFormat, screenshotQuality, screenshotScale and screenshotGrayscale settings
+     */
+    public static ScreenshotEncoder fromConfig() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        return new ScreenshotEncoder(config.getScreenshotFormat(), config.getScreenshotQuality(),
+                config.getScreenshotScale(), config.isScreenshotGrayscale());
+    }
+
+    /**
+     * File extension of encoded images, without the dot
+     */
+    public String getExtension() {
+        return format.extension;
+    }
+
+    public String getMimeType() {
+        return format.mimeType;
+    }
+
+    /**
+     * Whether captures are stored exactly as the driver returned them
+     */
+    public boolean isPassThrough() {
+        return format == Format.PNG && scale == 1.0 && !grayscale;
+    }
+
+    /**
+     * Encode a captured PNG screenshot
+     */
+    public byte[] encode(byte[] png) throws IOException {
+        if (isPassThrough()) {
+            return png;
+        }
+        BufferedImage captured = ImageIO.read(new ByteArrayInputStream(png));
+        if (captured == null) {
+            throw new IOException("Unsupported screenshot image");
+        }
+        BufferedImage image = resample(captured);
+
+        ImageWriter writer = format.writer();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(1024, png.length / 4));
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (format.lossy && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types != null && types.length > 0) {
+                    // WebP writers offer lossless and lossy compression; quality only applies to the lossy one
+                    param.setCompressionType(Arrays.asList(types).contains("Lossy") ? "Lossy" : types[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // Lossy formats and grayscale drop the alpha channel; screenshots of a page are opaque anyway
+    private BufferedImage resample(BufferedImage captured) {
+        int width = Math.max(1, (int) Math.round(captured.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(captured.getHeight() * scale));
+        int type = grayscale ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB;
+        if (width == captured.getWidth() && height == captured.getHeight() && captured.getType() == type) {
+            return captured;
+        }
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+            graphics.drawImage(captured, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+
+    @Override
+    public String toString() {
+        return format.extension + (format.lossy ? " q" + quality : "") + (scale != 1.0 ? " x" + scale : "")
+                + (grayscale ? " grayscale" : "");
+    }
+
+    /* ===================== Inner Class ===================== */
+
+    private enum Format {
+        PNG("png", "png", "image/png", false),
+        JPEG("jpeg", "jpg", "image/jpeg", true),
+        WEBP("webp", "webp", "image/webp", true);
+
+        private final String formatName;
+        private final String extension;
+        private final String mimeType;
+        private final boolean lossy;
+
+        Format(String formatName, String extension, String mimeType, boolean lossy) {
+            this.formatName = formatName;
+            this.extension = extension;
+            this.mimeType = mimeType;
+            this.lossy = lossy;
+        }
+
+        ImageWriter writer() throws IOException {
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+            if (!writers.hasNext()) {
+                throw new IOException("No ImageIO writer for " + formatName);
+            }
+            return writers.next();
+        }
+
+        // The JDK has no WebP writer; it is only used when an ImageIO plugin for it is on the classpath
+        static Format resolve(String value) {
+            String name = value == null ? "png" : value.trim().toLowerCase();
+            switch (name) {
+                case "png":
+                    return PNG;
+                case "jpg":
+                case "jpeg":
+                    return JPEG;
+                case "webp":
+                    if (ImageIO.getImageWritersByFormatName("webp").hasNext()) {
+                        return WEBP;
+                    }
+                    logger.warn("No WebP ImageIO plugin available, encoding screenshots as jpeg");
+                    return JPEG;
+                default:
+                    logger.warn("Unknown screenshot format '{}', using png", value);
+                    return PNG;
+            }
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.swaglabs.core.utils;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Persistent index of the screenshots under a screenshot directory, kept in an append-only manifest
+ * Count and size are answered from memory and retention removes the least recently used files first, so
+ * cleanup touches only the expired entries; a periodic reconciliation against disk repairs any drift
+ */
+public final class ScreenshotIndex {
+    private static final Logger logger = LogManager.getLogger(ScreenshotIndex.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    static final String MANIFEST_NAME = "index.tsv";
+    private static final String RECONCILED = "#reconciled";
+    // The manifest is rewritten once it holds this many superseded lines more than live entries
+    private static final int COMPACT_SLACK = 1000;
+
+    private static final ConcurrentHashMap<Path, ScreenshotIndex> indexes = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final Path manifest;
+    // Least recently written or reused first; guarded by this
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private long totalBytes;
+    private long manifestLines;
+    private long reconciledAt;
+
+    private ScreenshotIndex(Path directory) {
+        this.directory = directory;
+        this.manifest = directory.resolve(MANIFEST_NAME);
+    }
+
+    /**
+     * Index of the environment's screenshot directory, loaded from its manifest on first use
+     */
+    public static ScreenshotIndex get() {
+        Path directory = ScreenshotUtils.getScreenshotDirectory().toAbsolutePath().normalize();
+        return indexes.computeIfAbsent(directory, ScreenshotIndex::open);
+    }
+
+    /**
+     * Uncached index of a directory, loaded from its manifest
+     */
+    static ScreenshotIndex open(Path directory) {
+        ScreenshotIndex index = new ScreenshotIndex(directory);
+        index.load();
+        return index;
+    }
+
+    /**
+     * Record a screenshot written or reused by a test, then apply the retention limits
+     */
+    public void record(Path file, String testId) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            Entry entry = new Entry(relativize(file), attributes.size(), attributes.lastModifiedTime().toMillis(),
+                    testId == null ? "" : testId.replace('\t', ' ').replace('\n', ' '));
+            synchronized (this) {
+                put(entry);
+                append(entry.toLine());
+                applyRetention();
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to index screenshot {}", file, e);
+        }
+    }
+
+    public synchronized int count() {
+        return entries.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Delete the screenshots last written or reused before the cutoff; only the expired entries are visited
+     */
+    public synchronized int removeOlderThan(long cutoffMillis) {
+        List<Entry> reused = new ArrayList<>();
+        int removed = 0;
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.modifiedMillis >= cutoffMillis) {
+                break;
+            }
+            it.remove();
+            removed += delete(entry, reused) ? 1 : 0;
+        }
+        reindex(reused);
+        return removed;
+    }
+
+    /**
+     * Delete the least recently used screenshots until the directory fits the byte budget
+     */
+    public synchronized int trimToSize(long maxBytes) {
+        List<Entry> reused = new ArrayList<>();
+        int removed = 0;
+        Iterator<Entry> it = entries.values().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Entry entry = it.next();
+            it.remove();
+            removed += delete(entry, reused) ? 1 : 0;
+        }
+        reindex(reused);
+        return removed;
+    }
+
+    /**
+     * Reconcile with disk when the last reconciliation is older than screenshotReconcileIntervalMinutes
+     */
+    public synchronized void reconcileIfDue() {
+        long intervalMillis = config.getScreenshotReconcileIntervalMinutes() * 60_000L;
+        if (intervalMillis > 0 && System.currentTimeMillis() - reconciledAt >= intervalMillis) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Rebuild the index from the files on disk, keeping known test ids, and rewrite a compact manifest
+     */
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+        List<Entry> found = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(Files::isRegularFile).filter(ScreenshotUtils::isScreenshotFile).forEach(file -> {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    String path = relativize(file);
+                    Entry known = entries.get(path);
+                    found.add(new Entry(path, attributes.size(), attributes.lastModifiedTime().toMillis(),
+                            known == null ? "" : known.testId));
+                } catch (IOException e) {
+                    logger.debug("Screenshot vanished during reconciliation: {}", file);
+                }
+            });
+        } catch (IOException e) {
+            logger.error("Failed to reconcile screenshot index with {}", directory, e);
+            return;
+        }
+
+        int untracked = 0;
+        for (Entry entry : found) {
+            if (!entries.containsKey(entry.path)) {
+                untracked++;
+            }
+        }
+        int missing = entries.size() - (found.size() - untracked);
+        found.sort(Comparator.comparingLong((Entry entry) -> entry.modifiedMillis));
+        entries.clear();
+        totalBytes = 0;
+        for (Entry entry : found) {
+            put(entry);
+        }
+        reconciledAt = start;
+        rewrite();
+        logger.info("Reconciled screenshot index: {} files, {} untracked added, {} missing dropped, {} ms",
+                entries.size(), untracked, missing, System.currentTimeMillis() - start);
+    }
+
+    // Replays the manifest; without one, or when reconciliation is due, the directory is scanned once
+    private synchronized void load() {
+        if (!Files.exists(manifest)) {
+            reconcile();
+            return;
+        }
+        try (Stream<String> lines = Files.lines(manifest, StandardCharsets.UTF_8)) {
+            lines.forEach(this::replay);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unreadable screenshot index {}, rebuilding it", manifest, e);
+            entries.clear();
+            totalBytes = 0;
+            reconcile();
+            return;
+        }
+        reconcileIfDue();
+        logger.debug("Screenshot index loaded: {} files, {} bytes", entries.size(), totalBytes);
+    }
+
+    private void replay(String line) {
+        manifestLines++;
+        String[] fields = line.split("\t", -1);
+        if (RECONCILED.equals(fields[0]) && fields.length > 1) {
+            reconciledAt = Long.parseLong(fields[1]);
+        } else if ("+".equals(fields[0]) && fields.length >= 5) {
+            put(new Entry(fields[1], Long.parseLong(fields[2]), Long.parseLong(fields[3]), fields[4]));
+        } else if ("-".equals(fields[0]) && fields.length >= 2) {
+            remove(fields[1]);
+        }
+    }
+
+    private void applyRetention() {
+        int retentionDays = config.getScreenshotRetentionDays();
+        if (retentionDays > 0) {
+            removeOlderThan(System.currentTimeMillis() - retentionDays * 24L * 60 * 60 * 1000);
+        }
+        long maxMegabytes = config.getScreenshotMaxDirectoryMb();
+        if (maxMegabytes > 0) {
+            trimToSize(maxMegabytes * 1024 * 1024);
+        }
+    }
+
+    // A re-recorded path moves to the most recently used end
+    private void put(Entry entry) {
+        remove(entry.path);
+        entries.put(entry.path, entry);
+        totalBytes += entry.size;
+    }
+
+    private void remove(String path) {
+        Entry previous = entries.remove(path);
+        if (previous != null) {
+            totalBytes -= previous.size;
+        }
+    }
+
+    // Caller has already unlinked the entry from the map; a file modified since it was indexed is kept
+    // and added to reused instead, to be indexed again once the caller's iteration is over
+    private boolean delete(Entry entry, List<Entry> reused) {
+        totalBytes -= entry.size;
+        Path file = directory.resolve(entry.path);
+        try {
+            FileTime modified = Files.getLastModifiedTime(file);
+            if (modified.toMillis() > entry.modifiedMillis) {
+                reused.add(new Entry(entry.path, Files.size(file), modified.toMillis(), entry.testId));
+                return false;
+            }
+            Files.delete(file);
+            logger.debug("Deleted old screenshot: {}", file);
+        } catch (NoSuchFileException e) {
+            logger.debug("Indexed screenshot already gone: {}", file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete screenshot: {}", file, e);
+        }
+        append("-\t" + entry.path);
+        return true;
+    }
+
+    private void reindex(List<Entry> reused) {
+        for (Entry entry : reused) {
+            put(entry);
+            append(entry.toLine());
+        }
+    }
+
+    private void append(String line) {
+        if (manifestLines > 2L * entries.size() + COMPACT_SLACK) {
+            rewrite();
+        }
+        try {
+            Files.write(manifest, (line + "\n").getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            manifestLines++;
+        } catch (IOException e) {
+            logger.warn("Failed to update screenshot index {}", manifest, e);
+        }
+    }
+
+    // Compacts the manifest to one line per live entry; the new file replaces the old one atomically
+    private void rewrite() {
+        try {
+            Path temp = Files.createTempFile(directory, ".index", ".tmp");
+            try {
+                try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    writer.write(RECONCILED + "\t" + reconciledAt + "\n");
+                    for (Entry entry : entries.values()) {
+                        writer.write(entry.toLine());
+                        writer.write('\n');
+                    }
+                }
+                try {
+                    Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING);
+                }
+                manifestLines = entries.size() + 1L;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to rewrite screenshot index {}", manifest, e);
+        }
+    }
+
+    private String relativize(Path file) {
+        return directory.relativize(file.toAbsolutePath().normalize()).toString().replace('\\', '/');
+    }
+
+    /* ===================== Inner Class ===================== */
+
+    private static class Entry {
+        private final String path;
+        private final long size;
+        private final long modifiedMillis;
+        private final String testId;
+
+        Entry(String path, long size, long modifiedMillis, String testId) {
+            this.path = path;
+            this.size = size;
+            this.modifiedMillis = modifiedMillis;
+            this.testId = testId;
+        }
+
+        String toLine() {
+            return "+\t" + path + "\t" + size + "\t" + modifiedMillis + "\t" + testId;
+        }
+    }
+}
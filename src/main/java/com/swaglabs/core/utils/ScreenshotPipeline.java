@@ -0,0 +1,539 @@
+package com.swaglabs.core.utils;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes screenshots off the test thread: the caller only grabs the PNG bytes and enqueues them
+ * A small pool of daemon writers does encoding, file naming, disk writes and Allure attachment content; a full queue
+ * blocks the caller or drops a screenshot according to the screenshotDropPolicy setting
+ */
+public final class ScreenshotPipeline {
+    private static final Logger logger = LogManager.getLogger(ScreenshotPipeline.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private static final Object lock = new Object();
+    private static volatile BlockingQueue<Task> queue;
+    private static DropPolicy dropPolicy;
+    private static volatile ScreenshotEncoder encoder;
+    // Shared sources of dropped attachments; they get a placeholder only if no identical capture wrote them
+    private static final Set<String> droppedSharedSources = ConcurrentHashMap.newKeySet();
+
+    // Guarded by lock
+    private static int pending;
+    private static long submitted;
+    private static long written;
+    private static long dropped;
+    private static long failed;
+    private static int maxQueueDepth;
+    private static long totalWriteMillis;
+    private static long maxWriteMillis;
+    private static long maxLatencyMillis;
+    private static long capturedBytes;
+    private static long encodedBytes;
+
+    private ScreenshotPipeline() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Capture a screenshot and attach it to the running Allure test or step; the content is written asynchronously
+     * With deduplication the attachment is registered under its content hash, so identical captures share one file
+     */
+    public static boolean attach(WebDriver driver, String name) {
+        return attachCapture(ScreenshotUtils.captureScreenshot(driver), name);
+    }
+
+    /**
+     * Capture only the element's area and attach it to the running Allure test or step
+     */
+    public static boolean attach(WebElement element, String name) {
+        return attachCapture(ScreenshotUtils.captureElementScreenshot(element), name);
+    }
+
+    /**
+     * Capture a screenshot and save it under the screenshot directory; the future completes with the file written
+     */
+    public static CompletableFuture<Path> saveToFile(WebDriver driver, String baseName) {
+        return saveCapture(ScreenshotUtils.captureScreenshot(driver), baseName);
+    }
+
+    /**
+     * Capture only the element's area and save it under the screenshot directory
+     */
+    public static CompletableFuture<Path> saveToFile(WebElement element, String baseName) {
+        return saveCapture(ScreenshotUtils.captureElementScreenshot(element), baseName);
+    }
+
+    private static boolean attachCapture(byte[] png, String name) {
+        if (png.length == 0) {
+            return false;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (!lifecycle.getCurrentTestCaseOrStep().isPresent()) {
+            logger.debug("No running Allure test for screenshot: {}", name);
+            return false;
+        }
+        // The type is announced now, the encoding itself happens on a writer
+        ScreenshotEncoder imageEncoder = encoder();
+        if (!config.isScreenshotDeduplication()) {
+            String source = lifecycle.prepareAttachment(name, imageEncoder.getMimeType(), imageEncoder.getExtension());
+            return enqueue(new Task(png, source, null, null, LocalDateTime.now()));
+        }
+        String contentHash = ScreenshotStore.contentHash(png);
+        String source = ScreenshotStore.attachmentSource(contentHash, imageEncoder.getExtension());
+        addSharedAttachment(lifecycle,
+                new Attachment().setName(name).setType(imageEncoder.getMimeType()).setSource(source));
+        return enqueue(new Task(png, source, contentHash, null, LocalDateTime.now()));
+    }
+
+    private static CompletableFuture<Path> saveCapture(byte[] png, String baseName) {
+        if (png.length == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Task task = new Task(png, null, null, baseName, LocalDateTime.now());
+        enqueue(task);
+        return task.result;
+    }
+
+    /**
+     * Wait for every queued screenshot to be written, up to the timeout, and return the pipeline counters
+     */
+    public static ScreenshotStats flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean drained;
+        synchronized (lock) {
+            while (pending > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    logger.warn("{} screenshot(s) still queued after waiting {} ms", pending, timeout.toMillis());
+                    break;
+                }
+                try {
+                    lock.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            drained = pending == 0;
+        }
+        // A queued identical capture may still write a dropped source, so placeholders wait for an empty queue
+        if (drained) {
+            writeDroppedPlaceholders();
+        }
+        return getStats();
+    }
+
+    /**
+     * Current pipeline counters
+     */
+    public static ScreenshotStats getStats() {
+        synchronized (lock) {
+            return new ScreenshotStats(submitted, written, dropped, failed, queue == null ? 0 : queue.size(),
+                    maxQueueDepth, totalWriteMillis, maxWriteMillis, maxLatencyMillis,
+                    ScreenshotStore.getDuplicateCount(), ScreenshotStore.getBytesSaved(), capturedBytes, encodedBytes);
+        }
+    }
+
+    private static boolean enqueue(Task task) {
+        BlockingQueue<Task> tasks = ensureStarted();
+        synchronized (lock) {
+            submitted++;
+            pending++;
+        }
+        boolean accepted;
+        switch (dropPolicy) {
+            case BLOCK:
+                try {
+                    tasks.put(task);
+                    accepted = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    accepted = false;
+                }
+                break;
+            case DROP_NEWEST:
+                accepted = tasks.offer(task);
+                break;
+            default:
+                while (!tasks.offer(task)) {
+                    Task oldest = tasks.poll();
+                    if (oldest != null) {
+                        drop(oldest);
+                    }
+                }
+                accepted = true;
+                break;
+        }
+        if (!accepted) {
+            drop(task);
+            return false;
+        }
+        synchronized (lock) {
+            maxQueueDepth = Math.max(maxQueueDepth, tasks.size());
+        }
+        return true;
+    }
+
+    private static BlockingQueue<Task> ensureStarted() {
+        if (queue == null) {
+            synchronized (ScreenshotPipeline.class) {
+                if (queue == null) {
+                    dropPolicy = DropPolicy.fromString(config.getScreenshotDropPolicy());
+                    encoder = ScreenshotEncoder.fromConfig();
+                    BlockingQueue<Task> tasks = new ArrayBlockingQueue<>(Math.max(1, config.getScreenshotQueueCapacity()));
+                    int writers = Math.max(1, config.getScreenshotWriterThreads());
+                    for (int i = 1; i <= writers; i++) {
+                        Thread writer = new Thread(() -> runWriter(tasks), "screenshot-writer-" + i);
+                        writer.setDaemon(true);
+                        writer.start();
+                    }
+                    Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(Duration.ofSeconds(5)),
+                            "screenshot-flush"));
+                    queue = tasks;
+                    logger.info("Screenshot pipeline started with {} writer(s), queue capacity {}, policy {}, encoding {}",
+                            writers, tasks.remainingCapacity(), dropPolicy, encoder);
+                }
+            }
+        }
+        return queue;
+    }
+
+    private static ScreenshotEncoder encoder() {
+        ensureStarted();
+        return encoder;
+    }
+
+    private static void runWriter(BlockingQueue<Task> tasks) {
+        while (true) {
+            Task task;
+            try {
+                task = tasks.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            long start = System.nanoTime();
+            boolean success = write(task);
+            long end = System.nanoTime();
+            synchronized (lock) {
+                long writeMillis = TimeUnit.NANOSECONDS.toMillis(end - start);
+                if (success) {
+                    written++;
+                    if (task.encodedSize > 0) {
+                        capturedBytes += task.png.length;
+                        encodedBytes += task.encodedSize;
+                    }
+                } else {
+                    failed++;
+                }
+                totalWriteMillis += writeMillis;
+                maxWriteMillis = Math.max(maxWriteMillis, writeMillis);
+                maxLatencyMillis = Math.max(maxLatencyMillis, TimeUnit.NANOSECONDS.toMillis(end - task.enqueuedNanos));
+                complete();
+            }
+        }
+    }
+
+    // Shared attachments are only encoded by the writer that claims them
+    private static boolean write(Task task) {
+        try {
+            if (task.attachmentSource != null && task.contentHash == null) {
+                Allure.getLifecycle().writeAttachment(task.attachmentSource, new ByteArrayInputStream(encode(task)));
+            } else if (task.attachmentSource != null && ScreenshotStore.claimAttachment(task.attachmentSource, task.png.length)) {
+                writeSharedAttachment(task.attachmentSource, encode(task));
+            }
+            if (task.fileBaseName != null) {
+                Path file = config.isScreenshotDeduplication() ? storeFile(task) : writeFile(task, encode(task));
+                ScreenshotIndex.get().record(file, task.fileBaseName);
+                logger.info("Screenshot saved to: {}", file);
+                task.result.complete(file);
+            } else {
+                task.result.complete(null);
+            }
+            return true;
+        } catch (Exception e) {
+            logger.error("Failed to write screenshot {}", task.fileBaseName != null ? task.fileBaseName : task.attachmentSource, e);
+            task.result.completeExceptionally(e);
+            return false;
+        }
+    }
+
+    // Shared sources are named by content, so one left in the results directory by an earlier run already holds the image
+    private static void writeSharedAttachment(String source, byte[] image) {
+        try {
+            Allure.getLifecycle().writeAttachment(source, new ByteArrayInputStream(image));
+        } catch (RuntimeException e) {
+            logger.debug("Shared attachment {} not written: {}", source, e.getMessage());
+        }
+    }
+
+    // A task needing both an attachment and a file is encoded once
+    private static byte[] encode(Task task) throws IOException {
+        if (task.encoded == null) {
+            task.encoded = encoder().encode(task.png);
+            task.encodedSize = task.encoded.length;
+        }
+        return task.encoded;
+    }
+
+    // Files are stored under the hash of the captured pixels; the index records which test referenced them
+    private static Path storeFile(Task task) throws IOException {
+        String contentHash = task.contentHash != null ? task.contentHash : ScreenshotStore.contentHash(task.png);
+        return ScreenshotStore.store(contentHash, encode(task), encoder().getExtension());
+    }
+
+    // Names are taken from the capture time; screenshots captured in the same second get a numeric suffix
+    private static Path writeFile(Task task, byte[] image) throws IOException {
+        Path directory = ScreenshotUtils.getScreenshotDirectory();
+        String extension = encoder().getExtension();
+        String name = ScreenshotUtils.screenshotFileName(task.fileBaseName, task.capturedAt, extension);
+        String stem = name.substring(0, name.length() - extension.length() - 1);
+        for (int suffix = 1; ; suffix++) {
+            Path file = directory.resolve(name);
+            try {
+                Files.write(file, image, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                return file;
+            } catch (FileAlreadyExistsException e) {
+                name = stem + "_" + suffix + "." + extension;
+            }
+        }
+    }
+
+    // A dropped attachment was already announced to Allure, so it gets empty content rather than a dangling link;
+    // a shared source is left to identical captures and only gets a placeholder once the queue has drained
+    private static void drop(Task task) {
+        logger.warn("Screenshot queue full, dropped {}", task.fileBaseName != null ? task.fileBaseName : "attachment");
+        if (task.attachmentSource != null && task.contentHash == null) {
+            writePlaceholder(task.attachmentSource);
+        } else if (task.attachmentSource != null) {
+            droppedSharedSources.add(task.attachmentSource);
+        }
+        task.result.complete(null);
+        synchronized (lock) {
+            dropped++;
+            complete();
+        }
+    }
+
+    private static void writeDroppedPlaceholders() {
+        Iterator<String> sources = droppedSharedSources.iterator();
+        while (sources.hasNext()) {
+            String source = sources.next();
+            sources.remove();
+            if (ScreenshotStore.claimPlaceholder(source)) {
+                writePlaceholder(source);
+            }
+        }
+    }
+
+    private static void writePlaceholder(String source) {
+        try {
+            Allure.getLifecycle().writeAttachment(source, new ByteArrayInputStream(new byte[0]));
+        } catch (Exception e) {
+            logger.debug("Failed to write placeholder for dropped screenshot", e);
+        }
+    }
+
+    // Steps and test cases take the attachment directly; a root that is not a test case is a fixture
+    private static void addSharedAttachment(AllureLifecycle lifecycle, Attachment attachment) {
+        String current = lifecycle.getCurrentTestCaseOrStep().orElse(null);
+        if (current == null) {
+            return;
+        }
+        if (!current.equals(lifecycle.getCurrentTestCase().orElse(null))) {
+            lifecycle.updateStep(current, step -> step.getAttachments().add(attachment));
+            return;
+        }
+        boolean[] added = {false};
+        lifecycle.updateTestCase(current, testCase -> added[0] = testCase.getAttachments().add(attachment));
+        if (!added[0]) {
+            lifecycle.updateFixture(current, fixture -> fixture.getAttachments().add(attachment));
+        }
+    }
+
+    // Caller holds lock
+    private static void complete() {
+        pending--;
+        if (pending == 0) {
+            lock.notifyAll();
+        }
+    }
+
+    /* ===================== Inner Classes ===================== */
+
+    private enum DropPolicy {
+        BLOCK, DROP_NEWEST, DROP_OLDEST;
+
+        static DropPolicy fromString(String value) {
+            if (value == null) {
+                return DROP_OLDEST;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Unknown screenshot drop policy '{}', using drop-oldest", value);
+                return DROP_OLDEST;
+            }
+        }
+    }
+
+    private static class Task {
+        private final byte[] png;
+        private final String attachmentSource;
+        private final String contentHash;
+        private final String fileBaseName;
+        private final LocalDateTime capturedAt;
+        private final long enqueuedNanos = System.nanoTime();
+        private final CompletableFuture<Path> result = new CompletableFuture<>();
+        // Only touched by the writer that took the task
+        private byte[] encoded;
+        private int encodedSize;
+
+        Task(byte[] png, String attachmentSource, String contentHash, String fileBaseName, LocalDateTime capturedAt) {
+            this.png = png;
+            this.attachmentSource = attachmentSource;
+            this.contentHash = contentHash;
+            this.fileBaseName = fileBaseName;
+            this.capturedAt = capturedAt;
+        }
+    }
+
+    /**
+     * Immutable view of the pipeline counters
+     */
+    public static class ScreenshotStats {
+        private final long submitted;
+        private final long written;
+        private final long dropped;
+        private final long failed;
+        private final int queueDepth;
+        private final int maxQueueDepth;
+        private final long totalWriteMillis;
+        private final long maxWriteMillis;
+        private final long maxLatencyMillis;
+        private final long deduplicated;
+        private final long bytesSaved;
+        private final long capturedBytes;
+        private final long encodedBytes;
+
+        ScreenshotStats(long submitted, long written, long dropped, long failed, int queueDepth, int maxQueueDepth,
+                        long totalWriteMillis, long maxWriteMillis, long maxLatencyMillis, long deduplicated,
+                        long bytesSaved, long capturedBytes, long encodedBytes) {
+            this.submitted = submitted;
+            this.written = written;
+            this.dropped = dropped;
+            this.failed = failed;
+            this.queueDepth = queueDepth;
+            this.maxQueueDepth = maxQueueDepth;
+            this.totalWriteMillis = totalWriteMillis;
+            this.maxWriteMillis = maxWriteMillis;
+            this.maxLatencyMillis = maxLatencyMillis;
+            this.deduplicated = deduplicated;
+            this.bytesSaved = bytesSaved;
+            this.capturedBytes = capturedBytes;
+            this.encodedBytes = encodedBytes;
+        }
+
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        public long getWritten() {
+            return written;
+        }
+
+        public long getDropped() {
+            return dropped;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public int getMaxQueueDepth() {
+            return maxQueueDepth;
+        }
+
+        /**
+         * Average time a writer spent on one screenshot
+         */
+        public long getAverageWriteMillis() {
+            long processed = written + failed;
+            return processed == 0 ? 0 : totalWriteMillis / processed;
+        }
+
+        public long getMaxWriteMillis() {
+            return maxWriteMillis;
+        }
+
+        /**
+         * Longest time from enqueue until the screenshot was on disk
+         */
+        public long getMaxLatencyMillis() {
+            return maxLatencyMillis;
+        }
+
+        /**
+         * Screenshots that reused an identical stored image instead of writing a new file
+         */
+        public long getDeduplicated() {
+            return deduplicated;
+        }
+
+        public long getBytesSaved() {
+            return bytesSaved;
+        }
+
+        /**
+         * Size of the captures as returned by the driver, for the screenshots that were encoded
+         */
+        public long getCapturedBytes() {
+            return capturedBytes;
+        }
+
+        /**
+         * Size of the same screenshots after encoding
+         */
+        public long getEncodedBytes() {
+            return encodedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "Screenshots: " + submitted + " submitted, " + written + " written, " + dropped + " dropped, "
+                    + failed + " failed" +
+                    "\nQueue depth: " + queueDepth + " (max " + maxQueueDepth + ")" +
+                    "\nWrite time: " + getAverageWriteMillis() + " ms average, " + maxWriteMillis + " ms max" +
+                    "\nEnqueue to written: " + maxLatencyMillis + " ms max" +
+                    "\nDeduplicated: " + deduplicated + " (" + bytesSaved / 1024 + " KB saved)" +
+                    "\nEncoded: " + encodedBytes / 1024 + " KB from " + capturedBytes / 1024 + " KB captured";
+        }
+    }
+}
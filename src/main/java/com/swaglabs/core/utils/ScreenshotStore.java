@@ -0,0 +1,311 @@
+package com.swaglabs.core.utils;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed screenshot storage: each distinct image is written once, under the hash of its pixel data
+ * Repeated captures only add a reference, both on disk and in Allure, where attachments share one source file
+ */
+public final class ScreenshotStore {
+    private static final Logger logger = LogManager.getLogger(ScreenshotStore.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int PERCEPTUAL_HISTORY = 512;
+
+    private static final Set<String> claimedAttachments = ConcurrentHashMap.newKeySet();
+    private static final ConcurrentHashMap<String, Path> storedImages = new ConcurrentHashMap<>();
+    // Perceptual hashes of recently stored images, newest first; guarded by itself
+    private static final Deque<StoredHash> recentHashes = new ArrayDeque<>();
+
+    private static final AtomicLong references = new AtomicLong();
+    private static final AtomicLong duplicates = new AtomicLong();
+    private static final AtomicLong bytesSaved = new AtomicLong();
+
+    private ScreenshotStore() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Hex SHA-256 of the image content; for PNG only the header, palette and pixel chunks are hashed,
+     * so metadata differences do not defeat deduplication
+     */
+    public static String contentHash(byte[] image) {
+        MessageDigest digest = sha256();
+        if (!isPng(image)) {
+            digest.update(image);
+            return hex(digest.digest());
+        }
+        int offset = PNG_SIGNATURE.length;
+        while (offset + 8 <= image.length) {
+            int length = ((image[offset] & 0xff) << 24) | ((image[offset + 1] & 0xff) << 16)
+                    | ((image[offset + 2] & 0xff) << 8) | (image[offset + 3] & 0xff);
+            String type = new String(image, offset + 4, 4, StandardCharsets.US_ASCII);
+            if (length < 0 || offset + 12L + length > image.length) {
+                break;
+            }
+            if ("IHDR".equals(type) || "PLTE".equals(type) || "IDAT".equals(type)) {
+                digest.update(image, offset + 8, length);
+            }
+            offset += 12 + length;
+        }
+        return hex(digest.digest());
+    }
+
+    /**
+     * Allure attachment source shared by every capture with this content hash
+     */
+    public static String attachmentSource(String contentHash, String extension) {
+        return contentHash + "-attachment." + extension;
+    }
+
+    /**
+     * Whether the caller is the first to need this attachment source and must write its content
+     */
+    static boolean claimAttachment(String source, int size) {
+        references.incrementAndGet();
+        if (claimedAttachments.add(source)) {
+            return true;
+        }
+        countDuplicate(size);
+        return false;
+    }
+
+    /**
+     * Claim a source no capture has written, so a placeholder can be written instead; not counted as a reference
+     */
+    static boolean claimPlaceholder(String source) {
+        return claimedAttachments.add(source);
+    }
+
+    /**
+     * Store an image under its content hash, or return the file of an identical or, when enabled, near-identical image
+     */
+    static Path store(String contentHash, byte[] image, String extension) throws IOException {
+        references.incrementAndGet();
+        Path existing = storedImages.get(contentHash);
+        if (existing != null && touch(existing)) {
+            countDuplicate(image.length);
+            return existing;
+        }
+        storedImages.remove(contentHash, existing);
+
+        // Captures of the same content arriving together wait for the first one instead of writing it again
+        boolean[] created = {false};
+        Path file;
+        try {
+            file = storedImages.computeIfAbsent(contentHash, key -> {
+                try {
+                    created[0] = true;
+                    return storeNew(key, image, extension);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (!created[0]) {
+            countDuplicate(image.length);
+        }
+        return file;
+    }
+
+    private static Path storeNew(String contentHash, byte[] image, String extension) throws IOException {
+        long perceptualHash = 0;
+        int maxDistance = config.getScreenshotNearDuplicateDistance();
+        if (maxDistance > 0) {
+            perceptualHash = perceptualHash(image);
+            Path similar = findSimilar(perceptualHash, maxDistance);
+            if (similar != null && touch(similar)) {
+                countDuplicate(image.length);
+                return similar;
+            }
+        }
+
+        Path file = storeDirectory().resolve(contentHash + "." + extension);
+        if (Files.exists(file)) {
+            touch(file);
+            countDuplicate(image.length);
+        } else {
+            write(file, image);
+        }
+        if (maxDistance > 0) {
+            remember(perceptualHash, file);
+        }
+        return file;
+    }
+
+    public static long getReferenceCount() {
+        return references.get();
+    }
+
+    /**
+     * References that reused an already stored image instead of writing a new file
+     */
+    public static long getDuplicateCount() {
+        return duplicates.get();
+    }
+
+    public static long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    static Path storeDirectory() throws IOException {
+        return Files.createDirectories(ScreenshotUtils.getScreenshotDirectory().resolve("store"));
+    }
+
+    private static void countDuplicate(int size) {
+        duplicates.incrementAndGet();
+        bytesSaved.addAndGet(size);
+    }
+
+    // Written under a temporary name first, so a crash never leaves a truncated file under a content hash
+    private static void write(Path file, byte[] image) throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), ".store", ".tmp");
+        try {
+            Files.write(temp, image);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Keeps reused images young for age-based cleanup; false when the file has been removed since
+    private static boolean touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Path findSimilar(long perceptualHash, int maxDistance) {
+        synchronized (recentHashes) {
+            for (StoredHash stored : recentHashes) {
+                if (Long.bitCount(stored.hash ^ perceptualHash) <= maxDistance) {
+                    return stored.file;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void remember(long perceptualHash, Path file) {
+        synchronized (recentHashes) {
+            for (Iterator<StoredHash> it = recentHashes.iterator(); it.hasNext(); ) {
+                if (it.next().file.equals(file)) {
+                    it.remove();
+                }
+            }
+            recentHashes.addFirst(new StoredHash(perceptualHash, file));
+            while (recentHashes.size() > PERCEPTUAL_HISTORY) {
+                recentHashes.removeLast();
+            }
+        }
+    }
+
+    /**
+     * 64-bit difference hash: each bit tells whether a cell of a 9x8 grayscale thumbnail is brighter than its right neighbour
+     */
+    static long perceptualHash(byte[] image) throws IOException {
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(image));
+        if (decoded == null) {
+            throw new IOException("Unsupported image format");
+        }
+        int width = decoded.getWidth();
+        int height = decoded.getHeight();
+        double[][] luma = new double[8][9];
+        int[][] samples = new int[8][9];
+        // Sample on a grid instead of scaling the whole image; a stride keeps large captures cheap
+        int stepX = Math.max(1, width / 90);
+        int stepY = Math.max(1, height / 80);
+        for (int y = 0; y < height; y += stepY) {
+            int row = Math.min(7, y * 8 / height);
+            for (int x = 0; x < width; x += stepX) {
+                int column = Math.min(8, x * 9 / width);
+                int rgb = decoded.getRGB(x, y);
+                luma[row][column] += 0.299 * ((rgb >> 16) & 0xff) + 0.587 * ((rgb >> 8) & 0xff) + 0.114 * (rgb & 0xff);
+                samples[row][column]++;
+            }
+        }
+        long hash = 0;
+        for (int row = 0; row < 8; row++) {
+            for (int column = 0; column < 8; column++) {
+                double left = luma[row][column] / Math.max(1, samples[row][column]);
+                double right = luma[row][column + 1] / Math.max(1, samples[row][column + 1]);
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    private static boolean isPng(byte[] image) {
+        if (image.length < PNG_SIGNATURE.length) {
+            return false;
+        }
+        for (int i = 0; i < PNG_SIGNATURE.length; i++) {
+            if (image[i] != PNG_SIGNATURE[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[2 * i + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    /* ===================== Inner Class ===================== */
+
+    private static class StoredHash {
+        private final long hash;
+        private final Path file;
+
+        StoredHash(long hash, Path file) {
+            this.hash = hash;
+            this.file = file;
+        }
+    }
+}
@@ -1,256 +1,206 @@
-package com.swaglabs.core.utils;
-
-import com.swaglabs.core.config.ConfigurationManager;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.WebDriver;
-
-import java.io.File;
-import java.util.concurrent.atomic.AtomicInteger;
-
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-
-/**
- * Utility class for capturing and managing screenshots
- * Provides centralized screenshot functionality with proper error handling
- */
-public class ScreenshotUtils {
-    
-    private static final Logger logger = LogManager.getLogger(ScreenshotUtils.class);
-    private static final ConfigurationManager config = ConfigurationManager.getInstance();
-    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
-    
-    private ScreenshotUtils() {
-        // Private constructor to prevent instantiation
-    }
-    
-    /**
-     * Capture screenshot as byte array
-     */
-    public static byte[] captureScreenshot(WebDriver driver) {
-        try {
-            if (driver instanceof TakesScreenshot) {
-                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-                logger.debug("Screenshot captured successfully");
-                return screenshot;
-            } else {
-                logger.warn("WebDriver does not support screenshot capture");
-                return new byte[0];
-            }
-        } catch (Exception e) {
-            logger.error("Failed to capture screenshot", e);
-            return new byte[0];
-        }
-    }
-    
-    /**
-     * Capture screenshot and save to file
-     */
-    public static String captureScreenshotToFile(WebDriver driver, String testName) {
-        try {
-            if (driver instanceof TakesScreenshot) {
-                String fileName = generateScreenshotFileName(testName);
-                Path screenshotPath = getScreenshotDirectory().resolve(fileName);
-                
-                // Ensure directory exists
-                Files.createDirectories(screenshotPath.getParent());
-                
-                // Capture and save screenshot
-                File screenshotFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-                Files.copy(screenshotFile.toPath(), screenshotPath);
-                
-                logger.info("Screenshot saved to: {}", screenshotPath);
-                return screenshotPath.toString();
-            } else {
-                logger.warn("WebDriver does not support screenshot capture");
-                return null;
-            }
-        } catch (IOException e) {
-            logger.error("Failed to save screenshot to file", e);
-            return null;
-        }
-    }
-    
-    /**
-     * Capture screenshot with custom name
-     */
-    public static String captureScreenshotToFile(WebDriver driver, String testName, String customName) {
-        try {
-            if (driver instanceof TakesScreenshot) {
-                String fileName = generateScreenshotFileName(testName, customName);
-                Path screenshotPath = getScreenshotDirectory().resolve(fileName);
-                
-                // Ensure directory exists
-                Files.createDirectories(screenshotPath.getParent());
-                
-                // Capture and save screenshot
-                File screenshotFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-                Files.copy(screenshotFile.toPath(), screenshotPath);
-                
-                logger.info("Screenshot saved to: {}", screenshotPath);
-                return screenshotPath.toString();
-            } else {
-                logger.warn("WebDriver does not support screenshot capture");
-                return null;
-            }
-        } catch (IOException e) {
-            logger.error("Failed to save screenshot to file", e);
-            return null;
-        }
-    }
-    
-    /**
-     * Generate screenshot file name with timestamp
-     */
-    private static String generateScreenshotFileName(String testName) {
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
-        return String.format("%s_%s.png", testName, timestamp);
-    }
-    
-    /**
-     * Generate screenshot file name with custom name and timestamp
-     */
-    private static String generateScreenshotFileName(String testName, String customName) {
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
-        return String.format("%s_%s_%s.png", testName, customName, timestamp);
-    }
-    
-    /**
-     * Get screenshot directory path
-     */
-    private static Path getScreenshotDirectory() {
-        String screenshotPath = config.getScreenshotPath();
-        if (screenshotPath == null || screenshotPath.trim().isEmpty()) {
-            screenshotPath = "screenshots";
-        }
-        
-        // Create directory if it doesn't exist
-        Path directory = Paths.get(screenshotPath);
-        try {
-            if (!Files.exists(directory)) {
-                Files.createDirectories(directory);
-                logger.debug("Created screenshot directory: {}", directory);
-            }
-        } catch (IOException e) {
-            logger.error("Failed to create screenshot directory: {}", directory, e);
-        }
-        
-        return directory;
-    }
-    
-    /**
-     * Clean up old screenshots (older than specified days)
-     */
-    public static void cleanupOldScreenshots(int daysToKeep) {
-        try {
-            Path screenshotDir = getScreenshotDirectory();
-            if (!Files.exists(screenshotDir)) {
-                return;
-            }
-
-            long cutoffTime = System.currentTimeMillis()
-                    - (daysToKeep * 24L * 60 * 60 * 1000);
-
-            AtomicInteger deletedCount = new AtomicInteger(0);
-
-            Files.walk(screenshotDir)
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(".png"))
-                    .filter(path -> {
-                        try {
-                            return Files.getLastModifiedTime(path).toMillis() < cutoffTime;
-                        } catch (IOException e) {
-                            logger.warn("Failed to read file time: {}", path, e);
-                            return false;
-                        }
-                    })
-                    .forEach(path -> {
-                        try {
-                            Files.deleteIfExists(path);
-                            deletedCount.incrementAndGet();
-                            logger.debug("Deleted old screenshot: {}", path);
-                        } catch (IOException e) {
-                            logger.warn("Failed to delete screenshot: {}", path, e);
-                        }
-                    });
-
-            logger.info("🧹 Cleaned up {} old screenshots", deletedCount.get());
-
-        } catch (IOException e) {
-            logger.error("Failed to cleanup old screenshots", e);
-        }
-    }
-
-    
-    /**
-     * Get screenshot directory size in bytes
-     */
-    public static long getScreenshotDirectorySize() {
-        try {
-            Path screenshotDir = getScreenshotDirectory();
-            if (!Files.exists(screenshotDir)) {
-                return 0;
-            }
-            
-            return Files.walk(screenshotDir)
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(".png"))
-                    .mapToLong(path -> {
-                        try {
-                            return Files.size(path);
-                        } catch (IOException e) {
-                            logger.warn("Failed to get file size: {}", path, e);
-                            return 0;
-                        }
-                    })
-                    .sum();
-            
-        } catch (IOException e) {
-            logger.error("Failed to calculate screenshot directory size", e);
-            return 0;
-        }
-    }
-    
-    /**
-     * Get screenshot count in directory
-     */
-    public static int getScreenshotCount() {
-        try {
-            Path screenshotDir = getScreenshotDirectory();
-            if (!Files.exists(screenshotDir)) {
-                return 0;
-            }
-            
-            return (int) Files.walk(screenshotDir)
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(".png"))
-                    .count();
-            
-        } catch (IOException e) {
-            logger.error("Failed to count screenshots", e);
-            return 0;
-        }
-    }
-    
-    /**
-     * Create screenshot directory if it doesn't exist
-     */
-    public static void ensureScreenshotDirectoryExists() {
-        try {
-            Path screenshotDir = getScreenshotDirectory();
-            if (!Files.exists(screenshotDir)) {
-                Files.createDirectories(screenshotDir);
-                logger.info("Created screenshot directory: {}", screenshotDir);
-            }
-        } catch (IOException e) {
-            logger.error("Failed to create screenshot directory", e);
-        }
-    }
+package com.swaglabs.core.utils;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Utility class for capturing and managing screenshots
+ * Provides centralized screenshot functionality with proper error handling
+ */
+public class ScreenshotUtils {
+    
+    private static final Logger logger = LogManager.getLogger(ScreenshotUtils.class);
+    private static final ConfigurationManager config = ConfigurationManager.getInstance();
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    
+    private ScreenshotUtils() {
+        // Private constructor to prevent instantiation
+    }
+    
+    /**
+     * Capture screenshot as byte array
+     */
+    public static byte[] captureScreenshot(WebDriver driver) {
+        try {
+            if (driver instanceof TakesScreenshot) {
+                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+                logger.debug("Screenshot captured successfully");
+                return screenshot;
+            } else {
+                logger.warn("WebDriver does not support screenshot capture");
+                return new byte[0];
+            }
+        } catch (Exception e) {
+            logger.error("Failed to capture screenshot", e);
+            return new byte[0];
+        }
+    }
+    
+    /**
+     * Capture only the area of an element as byte array
+     */
+    public static byte[] captureElementScreenshot(WebElement element) {
+        try {
+            byte[] screenshot = element.getScreenshotAs(OutputType.BYTES);
+            logger.debug("Element screenshot captured successfully");
+            return screenshot;
+        } catch (Exception e) {
+            logger.error("Failed to capture element screenshot", e);
+            return new byte[0];
+        }
+    }
+    
+    /**
+     * Capture screenshot and save to file, waiting until it is written
+     */
+    public static String captureScreenshotToFile(WebDriver driver, String testName) {
+        return awaitPath(captureScreenshotToFileAsync(driver, testName));
+    }
+    
+    /**
+     * Capture screenshot with custom name
+     */
+    public static String captureScreenshotToFile(WebDriver driver, String testName, String customName) {
+        return awaitPath(captureScreenshotToFileAsync(driver, testName, customName));
+    }
+    
+    /**
+     * Capture screenshot and save to file; only the capture runs on the calling thread
+     * The future completes with the written file, or null when the screenshot was dropped
+     */
+    public static CompletableFuture<Path> captureScreenshotToFileAsync(WebDriver driver, String testName) {
+        return ScreenshotPipeline.saveToFile(driver, testName);
+    }
+    
+    /**
+     * Capture screenshot with custom name without waiting for the file
+     */
+    public static CompletableFuture<Path> captureScreenshotToFileAsync(WebDriver driver, String testName,
+                                                                       String customName) {
+        return ScreenshotPipeline.saveToFile(driver, testName + "_" + customName);
+    }
+    
+    private static String awaitPath(CompletableFuture<Path> future) {
+        try {
+            Path file = future.join();
+            return file == null ? null : file.toString();
+        } catch (CompletionException e) {
+            logger.error("Failed to save screenshot to file", e.getCause());
+            return null;
+        }
+    }
+    
+    /**
+     * Save a screen recording under the videos folder of the screenshot directory, where retention also applies
+     */
+    public static Path saveVideo(String testName, byte[] video) {
+        try {
+            Path directory = Files.createDirectories(getScreenshotDirectory().resolve("videos"));
+            Path file = directory.resolve(screenshotFileName(testName, LocalDateTime.now(), "avi"));
+            Files.write(file, video);
+            ScreenshotIndex.get().record(file, testName);
+            logger.info("Video saved to: {}", file);
+            return file;
+        } catch (IOException e) {
+            logger.error("Failed to save video for {}", testName, e);
+            return null;
+        }
+    }
+    
+    /**
+     * Generate screenshot file name with the capture timestamp
+     */
+    static String screenshotFileName(String baseName, LocalDateTime capturedAt, String extension) {
+        return String.format("%s_%s.%s", baseName, capturedAt.format(TIMESTAMP_FORMATTER), extension);
+    }
+    
+    /**
+     * Whether the file is a screenshot in one of the supported formats
+     */
+    static boolean isScreenshotFile(Path path) {
+        String name = path.getFileName().toString();
+        if (name.startsWith(".")) {
+            return false;
+        }
+        return name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".webp") || name.endsWith(".avi");
+    }
+    
+    /**
+     * Get screenshot directory path
+     */
+    static Path getScreenshotDirectory() {
+        String screenshotPath = config.getScreenshotPath();
+        if (screenshotPath == null || screenshotPath.trim().isEmpty()) {
+            screenshotPath = "screenshots";
+        }
+        
+        // Create directory if it doesn't exist
+        Path directory = Paths.get(screenshotPath);
+        try {
+            if (!Files.exists(directory)) {
+                Files.createDirectories(directory);
+                logger.debug("Created screenshot directory: {}", directory);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to create screenshot directory: {}", directory, e);
+        }
+        
+        return directory;
+    }
+    
+    /**
+     * Clean up old screenshots (older than specified days)
+     * Served by the screenshot index, so only the expired files are visited
+     */
+    public static void cleanupOldScreenshots(int daysToKeep) {
+        ScreenshotIndex index = ScreenshotIndex.get();
+        index.reconcileIfDue();
+        long cutoffTime = System.currentTimeMillis()
+                - (daysToKeep * 24L * 60 * 60 * 1000);
+        int deletedCount = index.removeOlderThan(cutoffTime);
+        logger.info("🧹 Cleaned up {} old screenshots", deletedCount);
+    }
+    
+    /**
+     * Get screenshot directory size in bytes, from the screenshot index
+     */
+    public static long getScreenshotDirectorySize() {
+        return ScreenshotIndex.get().totalBytes();
+    }
+    
+    /**
+     * Get screenshot count in directory, from the screenshot index
+     */
+    public static int getScreenshotCount() {
+        return ScreenshotIndex.get().count();
+    }
+    
+    /**
+     * Create screenshot directory if it doesn't exist
+     */
+    public static void ensureScreenshotDirectoryExists() {
+        try {
+            Path screenshotDir = getScreenshotDirectory();
+            if (!Files.exists(screenshotDir)) {
+                Files.createDirectories(screenshotDir);
+                logger.info("Created screenshot directory: {}", screenshotDir);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to create screenshot directory", e);
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.swaglabs.core.wait;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+
+/**
+ * Detects when a page has settled: document loaded, no fetch/XHR in flight and no DOM mutation for a quiet window
+ * The check runs inside the page as one async script, so a settled page costs a single round-trip instead of readyState polling
+ */
+public final class PageReadiness {
+    private static final Logger logger = LogManager.getLogger(PageReadiness.class);
+
+    // Each script call stays well below the driver's script timeout; longer waits are split over several calls
+    private static final long MAX_SCRIPT_MILLIS = 10_000;
+
+    // Installs the tracker once per document, then resolves with true once the page is quiet, or with a diagnostic at the deadline
+    private static final String AWAIT_READY_SCRIPT =
+            "var quiet = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];" +
+            "var tracker = window.__pageReadiness;" +
+            "if (!tracker) {" +
+            "  tracker = window.__pageReadiness = {pending: 0, lastChange: performance.now()};" +
+            "  var touch = function() { tracker.lastChange = performance.now(); };" +
+            "  new MutationObserver(touch).observe(document," +
+            "      {subtree: true, childList: true, attributes: true, characterData: true});" +
+            "  if (window.fetch) {" +
+            "    var originalFetch = window.fetch;" +
+            "    window.fetch = function() {" +
+            "      tracker.pending++; touch();" +
+            "      var settle = function() { tracker.pending--; touch(); };" +
+            "      try {" +
+            "        var request = originalFetch.apply(this, arguments);" +
+            "        request.then(settle, settle);" +
+            "        return request;" +
+            "      } catch (e) { settle(); throw e; }" +
+            "    };" +
+            "  }" +
+            "  var originalSend = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function() {" +
+            "    var settled = false;" +
+            "    var settle = function() { if (!settled) { settled = true; tracker.pending--; touch(); } };" +
+            "    tracker.pending++; touch();" +
+            "    this.addEventListener('loadend', settle);" +
+            "    try { return originalSend.apply(this, arguments); } catch (e) { settle(); throw e; }" +
+            "  };" +
+            "}" +
+            "var start = performance.now();" +
+            "(function check() {" +
+            "  var now = performance.now(), idle = now - tracker.lastChange;" +
+            "  if (document.readyState === 'complete' && tracker.pending <= 0 && idle >= quiet) { done(true); return; }" +
+            "  if (now - start >= timeout) {" +
+            "    done('readyState=' + document.readyState + ', pending requests=' + tracker.pending" +
+            "        + ', quiet for ' + Math.round(idle) + ' ms');" +
+            "    return;" +
+            "  }" +
+            "  setTimeout(check, Math.max(10, Math.min(50, quiet - idle)));" +
+            "})();";
+
+    private PageReadiness() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Wait up to the environment's page load timeout for the page to settle
+     */
+    public static boolean awaitReady(WebDriver driver) {
+        return awaitReady(driver, Duration.ofSeconds(ConfigurationManager.getInstance().getPageLoadTimeout()));
+    }
+
+    /**
+     * Wait for the page to settle; returns false, after logging why, when it is still busy at the timeout
+     */
+    public static boolean awaitReady(WebDriver driver, Duration timeout) {
+        long quietMillis = ConfigurationManager.getInstance().getPageQuietMillis();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        Object lastState = "not checked";
+        int calls = 0;
+        boolean ready = false;
+        while (!ready) {
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                break;
+            }
+            calls++;
+            try {
+                lastState = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_READY_SCRIPT,
+                        quietMillis, Math.min(remainingMillis, MAX_SCRIPT_MILLIS));
+                ready = Boolean.TRUE.equals(lastState);
+            } catch (JavascriptException | ScriptTimeoutException e) {
+                // A navigation unloads the document under the script; the next call tracks the new document
+                lastState = e.getClass().getSimpleName();
+                logger.debug("Readiness check interrupted ({}), checking again", lastState);
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        WaitMetrics.record(driver, elapsedMillis, calls, !ready);
+        if (ready) {
+            logger.debug("Page ready after {} ms ({} ms quiet window)", elapsedMillis, quietMillis);
+        } else {
+            logger.warn("Page not ready within {} ms: {}", timeout.toMillis(), lastState);
+        }
+        return ready;
+    }
+}
@@ -0,0 +1,108 @@
+package com.swaglabs.core.wait;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Run-wide count of interaction retries per locator, to find the flakiest elements of the suite
+ */
+public class RetryMetrics {
+
+    private static final ConcurrentHashMap<String, LocatorStats> locatorStats = new ConcurrentHashMap<>();
+
+    private RetryMetrics() {
+        // Private constructor to prevent instantiation
+    }
+
+    static void recordRetry(String locator, boolean wokenByMutation) {
+        LocatorStats stats = locatorStats.computeIfAbsent(String.valueOf(locator), key -> new LocatorStats());
+        stats.retries.increment();
+        if (wokenByMutation) {
+            stats.mutationWakeups.increment();
+        }
+    }
+
+    static void recordExhausted(String locator) {
+        locatorStats.computeIfAbsent(String.valueOf(locator), key -> new LocatorStats()).exhausted.increment();
+    }
+
+    /**
+     * Locators with the most retries so far, worst first
+     */
+    public static List<LocatorRetries> worstOffenders(int limit) {
+        List<LocatorRetries> all = new ArrayList<>(locatorStats.size());
+        for (Map.Entry<String, LocatorStats> entry : locatorStats.entrySet()) {
+            LocatorStats stats = entry.getValue();
+            all.add(new LocatorRetries(entry.getKey(), stats.retries.sum(), stats.mutationWakeups.sum(),
+                    stats.exhausted.sum()));
+        }
+        all.sort(Comparator.comparingLong(LocatorRetries::getRetries).thenComparingLong(LocatorRetries::getExhausted)
+                .reversed());
+        return Collections.unmodifiableList(all.subList(0, Math.min(limit, all.size())));
+    }
+
+    /**
+     * Forget all counters
+     */
+    public static void reset() {
+        locatorStats.clear();
+    }
+
+    /* ===================== Inner Classes ===================== */
+
+    private static class LocatorStats {
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder mutationWakeups = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+    }
+
+    /**
+     * Immutable view of the retry counters of one locator
+     */
+    public static class LocatorRetries {
+        private final String locator;
+        private final long retries;
+        private final long mutationWakeups;
+        private final long exhausted;
+
+        LocatorRetries(String locator, long retries, long mutationWakeups, long exhausted) {
+            this.locator = locator;
+            this.retries = retries;
+            this.mutationWakeups = mutationWakeups;
+            this.exhausted = exhausted;
+        }
+
+        public String getLocator() {
+            return locator;
+        }
+
+        public long getRetries() {
+            return retries;
+        }
+
+        /**
+         * Retries that were started early by a DOM mutation rather than after the full backoff
+         */
+        public long getMutationWakeups() {
+            return mutationWakeups;
+        }
+
+        /**
+         * Interactions that still failed after the last attempt
+         */
+        public long getExhausted() {
+            return exhausted;
+        }
+
+        @Override
+        public String toString() {
+            return locator + ": " + retries + " retries (" + mutationWakeups + " woken by DOM changes), "
+                    + exhausted + " exhausted";
+        }
+    }
+}
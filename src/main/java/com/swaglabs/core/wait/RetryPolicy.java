@@ -0,0 +1,176 @@
+package com.swaglabs.core.wait;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import com.swaglabs.core.pages.PageSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Retries page interactions that failed with a transient exception, with jittered millisecond backoff
+ * Between attempts it waits for the next DOM mutation instead of sleeping out the whole delay, and records retries per locator
+ */
+public final class RetryPolicy {
+    private static final Logger logger = LogManager.getLogger(RetryPolicy.class);
+
+    private static final List<Class<? extends RuntimeException>> DEFAULT_RETRY_ON = Collections.unmodifiableList(Arrays.asList(
+            StaleElementReferenceException.class, InvalidElementStateException.class, NotFoundException.class));
+
+    // Resolves on the first mutation anywhere in the document, or with false once the delay has passed
+    private static final String AWAIT_MUTATION_SCRIPT =
+            "var done = arguments[arguments.length - 1], observer, timer;" +
+            "function finish(changed) { clearTimeout(timer); if (observer) observer.disconnect(); done(changed); }" +
+            "observer = new MutationObserver(function() { finish(true); });" +
+            "observer.observe(document.documentElement || document," +
+            "    {subtree: true, childList: true, attributes: true, characterData: true});" +
+            "timer = setTimeout(function() { finish(false); }, arguments[0]);";
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final List<Class<? extends RuntimeException>> retryOn;
+
+    public RetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis,
+                       List<Class<? extends RuntimeException>> retryOn) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(1, initialBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoffMillis);
+        this.retryOn = Collections.unmodifiableList(retryOn);
+    }
+
+    /**
+     * Policy of the environment: retryCount retries after the first attempt, on stale, not-interactable and not-found elements
+     */
+    public static RetryPolicy fromConfig() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        return new RetryPolicy(config.getRetryMaxAttempts(), config.getRetryBackoffMillis(),
+                config.getRetryMaxBackoffMillis(), DEFAULT_RETRY_ON);
+    }
+
+    /**
+     * Same policy with a different number of attempts, first attempt included
+     */
+    public RetryPolicy withMaxAttempts(int attempts) {
+        return attempts == maxAttempts ? this : new RetryPolicy(attempts, initialBackoffMillis, maxBackoffMillis, retryOn);
+    }
+
+    /**
+     * Same policy retrying only on the given exception types and their subclasses
+     */
+    public RetryPolicy retryOn(List<Class<? extends RuntimeException>> exceptionTypes) {
+        return new RetryPolicy(maxAttempts, initialBackoffMillis, maxBackoffMillis, exceptionTypes);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Run an action, retrying it on a retryable exception; the last exception is rethrown once attempts run out
+     */
+    public void run(WebDriver driver, String locator, Runnable action) {
+        call(driver, locator, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run an action returning a value, retrying it on a retryable exception
+     */
+    public <T> T call(WebDriver driver, String locator, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (!isRetryable(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    RetryMetrics.recordExhausted(locator);
+                    throw e;
+                }
+                if (isCausedBy(e, StaleElementReferenceException.class)) {
+                    PageSnapshot.invalidate(driver);
+                }
+                long delay = backoffMillis(attempt);
+                logger.warn("Attempt {} of {} failed for {} ({}), retrying within {} ms",
+                        attempt, maxAttempts, locator, e.getClass().getSimpleName(), delay);
+                RetryMetrics.recordRetry(locator, awaitMutation(driver, delay));
+            }
+        }
+    }
+
+    /**
+     * Whether the exception, or one of its causes, is of a type this policy retries on
+     * The walk stops at an explicit-wait timeout: the wait already spent its budget polling, whatever it wraps
+     */
+    public boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof TimeoutException) {
+                return false;
+            }
+            for (Class<? extends RuntimeException> type : retryOn) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Exponential delay for the given retry, with equal jitter so parallel sessions do not retry in lockstep
+     */
+    long backoffMillis(int retry) {
+        long base = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(retry - 1, 20));
+        return base / 2 + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+    }
+
+    private static boolean isCausedBy(Throwable error, Class<? extends Throwable> type) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Returns true when a DOM mutation ended the wait early; sleeps when the page cannot run the observer
+    private static boolean awaitMutation(WebDriver driver, long delayMillis) {
+        long start = System.nanoTime();
+        try {
+            if (driver instanceof JavascriptExecutor) {
+                return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(AWAIT_MUTATION_SCRIPT, delayMillis));
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Mutation observer unavailable, sleeping out the backoff: {}", e.getMessage());
+        }
+        long remaining = delayMillis - (System.nanoTime() - start) / 1_000_000;
+        if (remaining > 0) {
+            try {
+                Thread.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{maxAttempts=" + maxAttempts + ", backoff=" + initialBackoffMillis + ".." + maxBackoffMillis
+                + " ms, retryOn=" + retryOn + '}';
+    }
+}
@@ -0,0 +1,138 @@
+package com.swaglabs.core.wait;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import com.swaglabs.core.pages.PageSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Explicit wait with backoff polling, meant to run with implicit waits disabled
+ * Polls start short and grow by a multiplier, so fast conditions return quickly and slow ones cost few round-trips
+ */
+public class SmartWait {
+    private static final Logger logger = LogManager.getLogger(SmartWait.class);
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final long initialPollMillis;
+    private final long maxPollMillis;
+    private final double multiplier;
+
+    public SmartWait(WebDriver driver, Duration timeout) {
+        this(driver, timeout, ConfigurationManager.getInstance().getWaitPollInitialMillis(),
+                ConfigurationManager.getInstance().getWaitPollMaxMillis(),
+                ConfigurationManager.getInstance().getWaitPollMultiplier());
+    }
+
+    public SmartWait(WebDriver driver, Duration timeout, long initialPollMillis, long maxPollMillis, double multiplier) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.initialPollMillis = Math.max(1, initialPollMillis);
+        this.maxPollMillis = Math.max(this.initialPollMillis, maxPollMillis);
+        this.multiplier = Math.max(1.0, multiplier);
+    }
+
+    /**
+     * Wait until the condition returns a non-null value other than false
+     */
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        return until(condition, (Object) condition);
+    }
+
+    /**
+     * Wait until every browser-side condition holds, evaluating all of them in one script per poll
+     */
+    public void untilAll(WaitCondition... conditions) {
+        StringBuilder script = new StringBuilder("var a = arguments; return [");
+        Object[] args = new Object[conditions.length * 2];
+        for (int i = 0; i < conditions.length; i++) {
+            script.append(i > 0 ? ", " : "")
+                    .append("(function(target, value) {").append(conditions[i].getBody()).append("})")
+                    .append("(a[").append(2 * i).append("], a[").append(2 * i + 1).append("])");
+            args[2 * i] = conditions[i].getTarget();
+            args[2 * i + 1] = conditions[i].getValue();
+        }
+        script.append("];");
+        String js = script.toString();
+
+        until(webDriver -> {
+            List<?> results = (List<?>) ((JavascriptExecutor) webDriver).executeScript(js, args);
+            for (Object result : results) {
+                if (!Boolean.TRUE.equals(result)) {
+                    return null;
+                }
+            }
+            return Boolean.TRUE;
+        }, conditions);
+    }
+
+    // The description is only rendered when a wait is logged or times out, keeping satisfied waits allocation-light
+    private <T> T until(Function<? super WebDriver, T> condition, Object description) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long interval = initialPollMillis;
+        int polls = 0;
+        RuntimeException lastError = null;
+
+        while (true) {
+            polls++;
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    finish(start, polls, false, description);
+                    return value;
+                }
+            } catch (NotFoundException e) {
+                lastError = e;
+            } catch (StaleElementReferenceException e) {
+                // The DOM changed under a cached lookup; start a new generation so page elements are found again
+                PageSnapshot.invalidate(driver);
+                lastError = e;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                long elapsed = finish(start, polls, true, description);
+                throw new TimeoutException(String.format(
+                        "Expected condition failed: waiting for %s (tried for %d ms with %d polls)",
+                        describe(description), elapsed, polls), lastError);
+            }
+            sleep(Math.min(interval, remainingMillis));
+            interval = Math.min(maxPollMillis, (long) Math.ceil(interval * multiplier));
+        }
+    }
+
+    private long finish(long start, int polls, boolean timedOut, Object description) {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        WaitMetrics.record(driver, elapsed, polls, timedOut);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Wait for {} {} after {} ms ({} polls)", describe(description),
+                    timedOut ? "timed out" : "succeeded", elapsed, polls);
+        }
+        return elapsed;
+    }
+
+    private static String describe(Object description) {
+        return description instanceof Object[] ? Arrays.toString((Object[]) description) : String.valueOf(description);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.swaglabs.core.wait;
+
+/**
+ * Browser-side condition evaluated by SmartWait in a single JavaScript round-trip
+ * Each condition is a function body receiving an element or value as {@code target} and returning a boolean
+ */
+public final class WaitCondition {
+    private static final String VISIBLE =
+            "if (!target || !target.isConnected) return false;" +
+            "var style = window.getComputedStyle(target);" +
+            "if (style.visibility === 'hidden' || style.display === 'none' || Number(style.opacity) === 0) return false;" +
+            "return target.getClientRects().length > 0;";
+
+    private final String description;
+    private final String body;
+    private final Object target;
+    private final Object value;
+
+    private WaitCondition(String description, String body, Object target, Object value) {
+        this.description = description;
+        this.body = body;
+        this.target = target;
+        this.value = value;
+    }
+
+    /**
+     * Element is attached, rendered and not hidden by CSS
+     */
+    public static WaitCondition visible(Object element) {
+        return new WaitCondition("visible: " + element, VISIBLE, element, null);
+    }
+
+    /**
+     * Element is visible and not disabled
+     */
+    public static WaitCondition clickable(Object element) {
+        return new WaitCondition("clickable: " + element,
+                VISIBLE.replace("return target.getClientRects().length > 0;",
+                        "return target.getClientRects().length > 0 && !target.disabled;"),
+                element, null);
+    }
+
+    /**
+     * At least one element matches the CSS selector
+     */
+    public static WaitCondition present(String cssSelector) {
+        return new WaitCondition("present: " + cssSelector,
+                "return document.querySelector(value) !== null;", null, cssSelector);
+    }
+
+    /**
+     * Element text contains the expected value
+     */
+    public static WaitCondition textContains(Object element, String text) {
+        return new WaitCondition("text '" + text + "' in: " + element,
+                "return !!target && (target.innerText || target.textContent || '').indexOf(value) >= 0;",
+                element, text);
+    }
+
+    /**
+     * Document finished loading
+     */
+    public static WaitCondition documentReady() {
+        return new WaitCondition("document ready", "return document.readyState === 'complete';", null, null);
+    }
+
+    String getBody() {
+        return body;
+    }
+
+    Object getTarget() {
+        return target;
+    }
+
+    Object getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
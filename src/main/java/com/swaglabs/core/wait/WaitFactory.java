@@ -0,0 +1,81 @@
+package com.swaglabs.core.wait;
+
+import com.swaglabs.core.config.ConfigurationManager;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Per-session source of SmartWait instances, cached by timeout
+ * Pages of both hierarchies share the session's waits instead of allocating one per call or per page
+ */
+public class WaitFactory {
+
+    private static final int MAX_INDEXED_SECONDS = 300;
+
+    private static final ConcurrentHashMap<WebDriver, WaitFactory> sessionFactories = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    // Whole-second timeouts are looked up by index so the common path does not box or allocate
+    private final AtomicReferenceArray<SmartWait> waitsBySecond = new AtomicReferenceArray<>(MAX_INDEXED_SECONDS + 1);
+    private final ConcurrentHashMap<Long, SmartWait> waitsByTimeout = new ConcurrentHashMap<>();
+    private final SmartWait defaultWait;
+
+    private WaitFactory(WebDriver driver) {
+        this.driver = driver;
+        this.defaultWait = withTimeout(ConfigurationManager.getInstance().getExplicitWait());
+    }
+
+    /**
+     * Get the wait factory of a session, creating it on first use
+     */
+    public static WaitFactory forDriver(WebDriver driver) {
+        return sessionFactories.computeIfAbsent(driver, WaitFactory::new);
+    }
+
+    /**
+     * Forget the cached waits and wait counters of a session that is being quit
+     */
+    public static void detach(WebDriver driver) {
+        if (driver != null) {
+            sessionFactories.remove(driver);
+            WaitMetrics.detach(driver);
+        }
+    }
+
+    /**
+     * Wait using the environment's explicit wait timeout
+     */
+    public SmartWait defaultWait() {
+        return defaultWait;
+    }
+
+    /**
+     * Wait with a per-call timeout; repeated timeouts reuse the same instance
+     */
+    public SmartWait withTimeout(Duration timeout) {
+        long millis = timeout.toMillis();
+        if (millis % 1000 == 0 && millis / 1000 <= MAX_INDEXED_SECONDS) {
+            return withTimeout((int) (millis / 1000));
+        }
+        return waitsByTimeout.computeIfAbsent(millis, key -> new SmartWait(driver, Duration.ofMillis(key)));
+    }
+
+    /**
+     * Wait with a per-call timeout in seconds
+     */
+    public SmartWait withTimeout(int timeoutSeconds) {
+        if (timeoutSeconds < 0 || timeoutSeconds > MAX_INDEXED_SECONDS) {
+            return waitsByTimeout.computeIfAbsent(timeoutSeconds * 1000L,
+                    millis -> new SmartWait(driver, Duration.ofMillis(millis)));
+        }
+        SmartWait wait = waitsBySecond.get(timeoutSeconds);
+        if (wait == null) {
+            waitsBySecond.compareAndSet(timeoutSeconds, null, new SmartWait(driver, Duration.ofSeconds(timeoutSeconds)));
+            wait = waitsBySecond.get(timeoutSeconds);
+        }
+        return wait;
+    }
+}
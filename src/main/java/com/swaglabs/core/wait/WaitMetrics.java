@@ -0,0 +1,120 @@
+package com.swaglabs.core.wait;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-session record of how long explicit waits actually took
+ */
+public class WaitMetrics {
+
+    private static final ConcurrentHashMap<WebDriver, WaitStats> sessionStats = new ConcurrentHashMap<>();
+
+    private WaitMetrics() {
+        // Private constructor to prevent instantiation
+    }
+
+    static void record(WebDriver driver, long elapsedMillis, int polls, boolean timedOut) {
+        if (driver != null) {
+            sessionStats.computeIfAbsent(driver, key -> new WaitStats()).add(elapsedMillis, polls, timedOut);
+        }
+    }
+
+    /**
+     * Return the waits recorded since the previous call and reset the counters
+     */
+    public static WaitSnapshot drainStats(WebDriver driver) {
+        WaitStats stats = driver == null ? null : sessionStats.get(driver);
+        return stats == null ? WaitSnapshot.EMPTY : stats.drain();
+    }
+
+    /**
+     * Forget the counters of a session that is being quit
+     */
+    public static void detach(WebDriver driver) {
+        if (driver != null) {
+            sessionStats.remove(driver);
+        }
+    }
+
+    /* ===================== Inner Classes ===================== */
+
+    private static class WaitStats {
+        private int waits;
+        private int polls;
+        private int timeouts;
+        private long totalMillis;
+        private long maxMillis;
+
+        synchronized void add(long elapsedMillis, int pollCount, boolean timedOut) {
+            waits++;
+            polls += pollCount;
+            totalMillis += elapsedMillis;
+            maxMillis = Math.max(maxMillis, elapsedMillis);
+            if (timedOut) {
+                timeouts++;
+            }
+        }
+
+        synchronized WaitSnapshot drain() {
+            WaitSnapshot snapshot = new WaitSnapshot(waits, polls, timeouts, totalMillis, maxMillis);
+            waits = 0;
+            polls = 0;
+            timeouts = 0;
+            totalMillis = 0;
+            maxMillis = 0;
+            return snapshot;
+        }
+    }
+
+    /**
+     * Immutable view of a session's wait counters
+     */
+    public static class WaitSnapshot {
+        public static final WaitSnapshot EMPTY = new WaitSnapshot(0, 0, 0, 0, 0);
+
+        private final int waits;
+        private final int polls;
+        private final int timeouts;
+        private final long totalMillis;
+        private final long maxMillis;
+
+        WaitSnapshot(int waits, int polls, int timeouts, long totalMillis, long maxMillis) {
+            this.waits = waits;
+            this.polls = polls;
+            this.timeouts = timeouts;
+            this.totalMillis = totalMillis;
+            this.maxMillis = maxMillis;
+        }
+
+        public int getWaits() {
+            return waits;
+        }
+
+        public int getPolls() {
+            return polls;
+        }
+
+        public int getTimeouts() {
+            return timeouts;
+        }
+
+        public long getTotalMillis() {
+            return totalMillis;
+        }
+
+        public long getMaxMillis() {
+            return maxMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "Waits: " + waits +
+                    "\nPolls: " + polls +
+                    "\nTimeouts: " + timeouts +
+                    "\nTotal wait time: " + totalMillis + " ms" +
+                    "\nLongest wait: " + maxMillis + " ms";
+        }
+    }
+}
@@ -1,94 +1,126 @@
-package com.swaglabs.pages.base;
-
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Properties;
-
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-public class BaseSwagLabsPage {
-	protected WebDriver driver = null;
-	protected WebDriverWait wait;
-	protected static final Logger log = LogManager.getLogger(BaseSwagLabsPage.class);
-
-	public static String TEST_FILE_PATH = null;
-	protected static Properties langXPathsProperties = null;
-	protected static Properties tesdataProp;
-
-	public BaseSwagLabsPage(WebDriver driver) {
-		this.driver = driver;
-		this.wait = new WebDriverWait(driver, java.time.Duration.ofSeconds(15));
-		PageFactory.initElements(driver, this);
-	}
-
-	public WebDriver getWebDriver() {
-		return this.driver;
-	}
-
-	public WebDriver getChildWebDriver() {
-		return driver;
-	}
-
-	public void waitUntilVisible(WebElement element) {
-		wait.until(ExpectedConditions.visibilityOf(element));
-	}
-
-	public void click(WebElement element) {
-		waitUntilVisible(element);
-		element.click();
-	}
-
-	public void enterText(WebElement element, String text) {
-		waitUntilVisible(element);
-		element.clear();
-		element.sendKeys(text);
-	}
-
-	public String getText(WebElement element) {
-		waitUntilVisible(element);
-		return element.getText();
-	}
-
-	public void selectByValue(WebElement dropdownElement, String value) {
-		waitUntilVisible(dropdownElement);
-		Select select = new Select(dropdownElement);
-		select.selectByValue(value);
-	}
-
-	public List<String> getFirstNElementTexts(List<WebElement> elements, int count) {
-		List<String> texts = new ArrayList<>();
-
-		for (int i = 0; i < count && i < elements.size(); i++) {
-			texts.add(elements.get(i).getText().trim());
-		}
-
-		return texts;
-	}
-
-	// Reusable method to check if first N prices are sorted low to high
-	public boolean areFirstNPricesSortedLowToHigh(List<WebElement> priceElements, int count) {
-		List<Double> prices = new ArrayList<>();
-
-		for (int i = 0; i < count && i < priceElements.size(); i++) {
-			String priceText = priceElements.get(i).getText().replace("$", "").trim();
-			prices.add(Double.parseDouble(priceText));
-		}
-
-		List<Double> sortedPrices = new ArrayList<>(prices);
-		Collections.sort(sortedPrices);
-
-		return prices.equals(sortedPrices);
-	}
-}
+package com.swaglabs.pages.base;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+
+import com.swaglabs.core.pages.ActionBatch;
+import com.swaglabs.core.pages.ElementReader;
+import com.swaglabs.core.pages.ElementReader.ElementData;
+import com.swaglabs.core.pages.PageElements;
+import com.swaglabs.core.pages.PageSnapshot;
+import com.swaglabs.core.pages.PriceList;
+import com.swaglabs.core.wait.PageReadiness;
+import com.swaglabs.core.wait.SmartWait;
+import com.swaglabs.core.wait.WaitCondition;
+import com.swaglabs.core.wait.WaitFactory;
+
+public class BaseSwagLabsPage {
+	protected WebDriver driver = null;
+	protected SmartWait wait;
+	protected PageSnapshot.Cache snapshots;
+	protected static final Logger log = LogManager.getLogger(BaseSwagLabsPage.class);
+
+	public static String TEST_FILE_PATH = null;
+	protected static Properties langXPathsProperties = null;
+	protected static Properties tesdataProp;
+
+	public BaseSwagLabsPage(WebDriver driver) {
+		this.driver = driver;
+		this.wait = WaitFactory.forDriver(driver).defaultWait();
+		this.snapshots = new PageSnapshot.Cache(driver, getClass(), wait);
+		PageElements.initElements(driver, this);
+	}
+
+	public WebDriver getWebDriver() {
+		return this.driver;
+	}
+
+	public WebDriver getChildWebDriver() {
+		return driver;
+	}
+
+	public void waitUntilVisible(WebElement element) {
+		wait.untilAll(WaitCondition.visible(element));
+	}
+
+	// Waits until the page has loaded and its DOM and network traffic have been quiet for pageQuietMillis
+	public void waitUntilReady() {
+		PageReadiness.awaitReady(driver);
+	}
+
+	// Implicit waits are disabled, so element lists must be waited for before they are read
+	public void waitUntilPresent(List<WebElement> elements) {
+		wait.until(webDriver -> elements.isEmpty() ? null : elements);
+	}
+
+	// Regions marked with @SnapshotRegion, read together and reused until the next mutating action
+	public PageSnapshot snapshot(String... requiredRegions) {
+		return snapshots.get(requiredRegions);
+	}
+
+	public void invalidateSnapshot() {
+		PageSnapshot.invalidate(driver);
+	}
+
+	// Queues fill/click/select steps and runs them together on flush, falling back to the methods below
+	public ActionBatch batch() {
+		return new ActionBatch(driver, wait, this::enterText, this::click, this::selectByValue);
+	}
+
+	public void click(WebElement element) {
+		waitUntilVisible(element);
+		element.click();
+		invalidateSnapshot();
+	}
+
+	public void enterText(WebElement element, String text) {
+		waitUntilVisible(element);
+		element.clear();
+		element.sendKeys(text);
+		invalidateSnapshot();
+	}
+
+	public String getText(WebElement element) {
+		waitUntilVisible(element);
+		return element.getText();
+	}
+
+	public void selectByValue(WebElement dropdownElement, String value) {
+		waitUntilVisible(dropdownElement);
+		Select select = new Select(dropdownElement);
+		select.selectByValue(value);
+		invalidateSnapshot();
+	}
+
+	public List<String> getFirstNElementTexts(List<WebElement> elements, int count) {
+		return ElementReader.texts(readElements(elements, count));
+	}
+
+	// Waits for the list and reads texts, visibility and attributes of up to count elements in one script
+	public List<ElementData> readElements(List<WebElement> elements, int count, String... attributes) {
+		return wait.until(webDriver -> {
+			List<ElementData> rows = ElementReader.read(webDriver, elements, count, attributes);
+			return rows.isEmpty() ? null : rows;
+		});
+	}
+
+	// Reusable method to check if first N prices are sorted low to high
+	public boolean areFirstNPricesSortedLowToHigh(List<WebElement> priceElements, int count) {
+		return readPrices(priceElements, count).isSortedAscending();
+	}
+
+	// Reads and parses up to count prices in one browser call
+	public PriceList readPrices(List<WebElement> priceElements, int count) {
+		return PriceList.parse(getFirstNElementTexts(priceElements, count));
+	}
+}
@@ -0,0 +1,37 @@
+package com.swaglabs.core.execution;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IExecutionListener;
+import org.testng.TestNG;
+import org.testng.TestNGException;
+
+/**
+ * Registers the virtual-thread executor factory with the running TestNG, so suites launched by Surefire use it
+ * Surefire cannot pass -threadpoolfactoryclass, so the factory is set through TestNG.setExecutorFactory when the
+ * listener is created, before TestNG reads its configuration; the run fails if virtual threads could not be enabled
+ */
+public class VirtualThreadExecutionListener implements IExecutionListener {
+    private static final Logger logger = LogManager.getLogger(VirtualThreadExecutionListener.class);
+
+    @SuppressWarnings("deprecation") // TestNG offers no other handle on the instance that created its listeners
+    public VirtualThreadExecutionListener() {
+        TestNG testng = TestNG.getDefault();
+        if (testng != null) {
+            testng.setExecutorFactory(new VirtualThreadExecutorFactory());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onExecutionStart() {
+        TestNG testng = TestNG.getDefault();
+        if (testng == null || !(testng.getExecutorFactory() instanceof VirtualThreadExecutorFactory)) {
+            String message = "Virtual threads were requested but the executor factory is not installed;"
+                    + " register " + getClass().getName() + " as a Surefire listener";
+            logger.error(message);
+            throw new TestNGException(message);
+        }
+        logger.info("Suites run on virtual threads");
+    }
+}
@@ -1,5 +1,6 @@
 package com.b2b.utils;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -14,6 +15,13 @@ import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.TestListenerAdapter;
 
+import com.swaglabs.core.driver.ConcurrencyGovernor;
+import com.swaglabs.core.driver.RequestBlocker;
+import com.swaglabs.core.driver.ResourceMonitor;
+import com.swaglabs.core.driver.ScreencastRecorder;
+import com.swaglabs.core.utils.ScreenshotPipeline;
+import com.swaglabs.core.utils.ScreenshotUtils;
+import com.swaglabs.core.wait.WaitMetrics;
 import com.swaglabs.test.BaseTest;
 
 import io.qameta.allure.Allure;
@@ -26,6 +34,11 @@ public class TestListener extends TestListenerAdapter {
 		return iTestResult.getMethod().getConstructorOrMethod().getName();
 	}
 
+	private static WebDriver getTestDriver(ITestResult iTestResult) {
+		Object testClass = iTestResult.getInstance();
+		return testClass instanceof BaseTest ? ((BaseTest) testClass).getChildWebDriver() : null;
+	}
+
 	@Attachment(value = "{0}", type = "text/plain")
 	public static String saveTextLog(String message) {
 		return message;
@@ -55,20 +68,59 @@ public class TestListener extends TestListenerAdapter {
 				screenshotType + LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MMM-yy_hh:mm:ss")),
 				"image/png", "png", screenshot);
 	}
+	public void saveNetworkStats(WebDriver driver) {
+		RequestBlocker.TrafficSnapshot stats = RequestBlocker.drainStats(driver);
+		if (stats.getBlockedRequests() > 0 || stats.getLoadedRequests() > 0) {
+			Allure.addAttachment("Network Stats", stats.toString());
+		}
+	}
+
+	public void saveResourceStats(WebDriver driver) {
+		ResourceMonitor.ResourceSnapshot stats = ResourceMonitor.drainStats(driver);
+		if (stats.getSamples() > 0) {
+			Allure.addAttachment("Resource Usage", stats.toString());
+			ConcurrencyGovernor.recordSessionMemory(stats.getPeakRssBytes());
+		}
+	}
+
+	// Frames are only encoded for failures, so passing tests never pay for the video
+	public void saveVideo(String testName, WebDriver driver) {
+		byte[] video = ScreencastRecorder.encodeRecording(driver);
+		if (video.length > 0) {
+			Allure.addAttachment("Screen Recording", "video/x-msvideo", new ByteArrayInputStream(video), "avi");
+			ScreenshotUtils.saveVideo(testName, video);
+		}
+	}
+
+	public void saveWaitStats(WebDriver driver) {
+		WaitMetrics.WaitSnapshot stats = WaitMetrics.drainStats(driver);
+		if (stats.getWaits() > 0) {
+			Allure.addAttachment("Wait Timing", stats.toString());
+		}
+	}
+
 	@Override
 	public void onTestStart(ITestResult iTestResult) {
 		logger.info(getTestMethodName(iTestResult) + " test is starting.");
+
+		// Start a fresh resource sampling window and screen recording for this test
+		WebDriver driver = getTestDriver(iTestResult);
+		ResourceMonitor.drainStats(driver);
+		ScreencastRecorder.discard(driver);
 	}
 
 	@Override
 	public void onTestSuccess(ITestResult iTestResult) {
 		logger.info(getTestMethodName(iTestResult) + " test succeeded.");
 
-		Object testClass = iTestResult.getInstance();
-		WebDriver driver = ((BaseTest) testClass).getChildWebDriver();
+		WebDriver driver = getTestDriver(iTestResult);
 
 		if (driver != null) {
+			ScreencastRecorder.discard(driver);
 			saveScreenshotPNG("Screenshot on Test Success - " + getTestMethodName(iTestResult), driver);
+			saveNetworkStats(driver);
+			saveResourceStats(driver);
+			saveWaitStats(driver);
 		}
 	}
 
@@ -76,18 +128,23 @@ public class TestListener extends TestListenerAdapter {
 	public void onTestFailure(ITestResult iTestResult) {
 		logger.info(getTestMethodName(iTestResult) + " test failed.");
 
-		Object testClass = iTestResult.getInstance();
-		WebDriver driver = ((BaseTest) testClass).getChildWebDriver();
+		WebDriver driver = getTestDriver(iTestResult);
 
 		if (driver != null) {
 			logger.info("Capturing screenshot for failed test case: " + getTestMethodName(iTestResult));
-			captureScreenshot("Screenshot on Test Failure - " + getTestMethodName(iTestResult), driver);
+			ScreenshotPipeline.attach(driver, "Screenshot on Test Failure - " + getTestMethodName(iTestResult));
+			saveVideo(getTestMethodName(iTestResult), driver);
+			saveNetworkStats(driver);
+			saveResourceStats(driver);
+			saveWaitStats(driver);
 		}
 	}
 
 	@Override
 	public void onTestSkipped(ITestResult iTestResult) {
 		logger.info(getTestMethodName(iTestResult) + " test is skipped.");
+
+		ScreencastRecorder.discard(getTestDriver(iTestResult));
 	}
 
 	@Override
@@ -0,0 +1,108 @@
+package com.swaglabs.core.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Leasing, rebinding and reaping of SessionRegistry with stand-in drivers; needs no browser
+ */
+public class SessionRegistryTest {
+
+    private final List<WebDriver> disposed = new CopyOnWriteArrayList<>();
+    private SessionRegistry registry;
+
+    @AfterMethod(alwaysRun = true)
+    public void stopReaper() {
+        if (registry != null) {
+            registry.shutdown();
+        }
+        disposed.clear();
+    }
+
+    @Test
+    public void leasesAndReleasesTheBoundDriver() {
+        registry = new SessionRegistry(disposed::add, Duration.ofMinutes(10), Duration.ofMinutes(1));
+        WebDriver driver = driver("first");
+        registry.register("test-a", driver);
+
+        Assert.assertSame(registry.lease("test-a"), driver);
+        Assert.assertSame(registry.lookup("test-a"), driver);
+        Assert.assertNull(registry.lease("test-b"));
+        registry.release("test-a");
+        Assert.assertSame(registry.unregister("test-a"), driver);
+        Assert.assertEquals(registry.size(), 0);
+        Assert.assertEquals(disposed, Collections.emptyList());
+    }
+
+    @Test
+    public void disposesTheDriverReplacedUnderAKey() {
+        registry = new SessionRegistry(disposed::add, Duration.ofMinutes(10), Duration.ofMinutes(1));
+        WebDriver first = driver("first");
+        WebDriver second = driver("second");
+        registry.register("test-a", first);
+        registry.register("test-a", first);
+        Assert.assertEquals(disposed, Collections.emptyList());
+
+        registry.register("test-a", second);
+        Assert.assertEquals(disposed, Collections.singletonList(first));
+        Assert.assertSame(registry.lookup("test-a"), second);
+        Assert.assertEquals(registry.size(), 1);
+    }
+
+    @Test
+    public void reapsOnlySessionsLeftUnleased() throws InterruptedException {
+        registry = new SessionRegistry(disposed::add, Duration.ofMillis(1), Duration.ofSeconds(1));
+        WebDriver orphan = driver("orphan");
+        WebDriver leased = driver("leased");
+        registry.register("released", orphan);
+        registry.register("in-use", leased);
+        registry.release("released");
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (disposed.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(disposed, Collections.singletonList(orphan));
+        Assert.assertNull(registry.lookup("released"));
+        Assert.assertSame(registry.lookup("in-use"), leased);
+    }
+
+    @Test
+    public void unregisterAllReturnsEveryDriverWithoutDisposingThem() {
+        registry = new SessionRegistry(disposed::add, Duration.ofMinutes(10), Duration.ofMinutes(1));
+        WebDriver first = driver("first");
+        WebDriver second = driver("second");
+        registry.register("test-a", first);
+        registry.register("test-b", second);
+
+        List<WebDriver> drivers = registry.unregisterAll();
+        Assert.assertEquals(drivers.size(), 2);
+        Assert.assertTrue(drivers.contains(first) && drivers.contains(second));
+        Assert.assertNull(registry.lookup("test-a"));
+        Assert.assertEquals(disposed, Collections.emptyList());
+    }
+
+    private static WebDriver driver(String name) {
+        return (WebDriver) Proxy.newProxyInstance(SessionRegistryTest.class.getClassLoader(),
+                new Class<?>[] {WebDriver.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return name;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
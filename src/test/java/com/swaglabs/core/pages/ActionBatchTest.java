@@ -0,0 +1,167 @@
+package com.swaglabs.core.pages;
+
+import com.swaglabs.core.wait.SmartWait;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Script-mode flushing of ActionBatch against a scripted driver: where per-step execution resumes after the batch
+ * script stops or its call fails, and when the flush refuses to resume because a click may already have run
+ */
+public class ActionBatchTest {
+
+    private final WebElement username = element("username");
+    private final WebElement password = element("password");
+    private final WebElement login = element("login");
+
+    private final List<String> perStep = new ArrayList<>();
+    // What the batch script call does: a [completed, failure] result, or a RuntimeException to throw
+    private Object scriptOutcome;
+    // What the progress script reports after a failed call
+    private Object progress;
+
+    @BeforeClass
+    public void enableScriptBatching() {
+        System.setProperty("batchActions", "true");
+        System.setProperty("actionBatchMode", "script");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreBatching() {
+        System.clearProperty("batchActions");
+        System.clearProperty("actionBatchMode");
+    }
+
+    @BeforeMethod
+    public void reset() {
+        perStep.clear();
+        scriptOutcome = null;
+        progress = -1L;
+    }
+
+    @Test
+    public void runsNothingPerStepWhenTheScriptCompletes() {
+        scriptOutcome = Arrays.asList(3L, null);
+        loginBatch().flush();
+        Assert.assertEquals(perStep, Collections.emptyList());
+    }
+
+    @Test
+    public void continuesPerStepFromTheStepTheScriptStoppedAt() {
+        scriptOutcome = Arrays.asList(1L, "element not visible");
+        loginBatch().flush();
+        Assert.assertEquals(perStep, Arrays.asList("fill password", "click login"));
+    }
+
+    @Test
+    public void resumesAfterAFailedCallAtTheReportedProgress() {
+        scriptOutcome = new WebDriverException("connection reset");
+        progress = 1L;
+        batch().fill(username, "standard_user").fill(password, "secret_sauce").flush();
+        Assert.assertEquals(perStep, Collections.singletonList("fill password"));
+    }
+
+    @Test
+    public void refusesToResumeWhenTheNextStepIsAClick() {
+        scriptOutcome = new WebDriverException("connection reset");
+        progress = 2L;
+        Assert.expectThrows(IllegalStateException.class, () -> loginBatch().flush());
+        Assert.assertEquals(perStep, Collections.emptyList());
+    }
+
+    @Test
+    public void refusesToResumeWhenProgressIsUnknownAndTheBatchClicks() {
+        scriptOutcome = new WebDriverException("connection reset");
+        progress = null;
+        Assert.expectThrows(IllegalStateException.class, () -> loginBatch().flush());
+        Assert.assertEquals(perStep, Collections.emptyList());
+    }
+
+    @Test
+    public void runsEveryStepPerStepWhenBatchingIsDisabled() {
+        System.setProperty("batchActions", "false");
+        try {
+            scriptOutcome = new AssertionError("batch script must not run");
+            loginBatch().flush();
+        } finally {
+            System.setProperty("batchActions", "true");
+        }
+        Assert.assertEquals(perStep, Arrays.asList("fill username", "fill password", "click login"));
+    }
+
+    private ActionBatch loginBatch() {
+        return batch().fill(username, "standard_user").fill(password, "secret_sauce").click(login);
+    }
+
+    private ActionBatch batch() {
+        WebDriver driver = driver();
+        return new ActionBatch(driver, new SmartWait(driver, Duration.ofSeconds(1), 1, 1, 1.0),
+                (element, text) -> perStep.add("fill " + element),
+                element -> perStep.add("click " + element),
+                (element, value) -> perStep.add("select " + element));
+    }
+
+    private WebDriver driver() {
+        return (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeScript":
+                            return executeScript((String) args[0]);
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "scripted driver";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private Object executeScript(String script) {
+        if (script.startsWith("var a = arguments;")) {
+            return Collections.singletonList(true);
+        }
+        if (script.startsWith("var progress")) {
+            return progress;
+        }
+        if (scriptOutcome instanceof Error) {
+            throw (Error) scriptOutcome;
+        }
+        if (scriptOutcome instanceof RuntimeException) {
+            throw (RuntimeException) scriptOutcome;
+        }
+        return scriptOutcome;
+    }
+
+    private static WebElement element(String name) {
+        return (WebElement) Proxy.newProxyInstance(ActionBatchTest.class.getClassLoader(),
+                new Class<?>[] {WebElement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return name;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,62 @@
+package com.swaglabs.core.pages;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * XPath to ID/CSS translation of LocatorCompiler and the expressions it keeps as XPath; needs no browser
+ */
+public class LocatorCompilerTest {
+
+    @DataProvider
+    public Object[][] translatable() {
+        return new Object[][] {
+                {"//*[@id='login-button']", By.id("login-button")},
+                {"//input[@id='user-name']", By.cssSelector("input#user-name")},
+                {"//div[@class='inventory_item_price']", By.cssSelector("div[class='inventory_item_price']")},
+                {"//div[@id='cart']/a[@href]", By.cssSelector("div#cart > a[href]")},
+                {"//form//button[contains(@class,'btn')]", By.cssSelector("form button[class*='btn']")},
+                {"//a[starts-with(@href, '/item') and @target='_blank']",
+                        By.cssSelector("a[href^='/item'][target='_blank']")},
+                {"//*[@data-test=\"it's\"]", By.cssSelector("*[data-test='it\\'s']")},
+        };
+    }
+
+    @DataProvider
+    public Object[][] untranslatable() {
+        return new Object[][] {
+                {"/html/body", "only paths starting with //"},
+                {"//div[2]", "positional predicates"},
+                {"//button[text()='Login']", "text() is not translated"},
+                {"//div[@id='a' or @id='b']", "'or' and unions"},
+                {"//a | //button", "'or' and unions"},
+                {"//div/parent::form", "axes"},
+                {"//div[contains(@class, '')]", "empty string"},
+                {"//div[@id=1]", "only string literals"},
+        };
+    }
+
+    @Test(dataProvider = "translatable")
+    public void translatesSimplePaths(String xpath, By expected) {
+        LocatorCompiler.Result result = LocatorCompiler.translate(xpath);
+        Assert.assertTrue(result.isTranslated(), String.valueOf(result));
+        Assert.assertNull(result.getReason());
+        Assert.assertEquals(result.getBy(), expected);
+    }
+
+    @Test(dataProvider = "untranslatable")
+    public void keepsOtherExpressionsAsXpath(String xpath, String expectedReason) {
+        LocatorCompiler.Result result = LocatorCompiler.translate(xpath);
+        Assert.assertFalse(result.isTranslated());
+        Assert.assertEquals(result.getBy(), By.xpath(xpath));
+        Assert.assertTrue(result.getReason().contains(expectedReason), result.getReason());
+    }
+
+    @Test
+    public void leavesNonXpathLocatorsUnchanged() {
+        By css = By.cssSelector(".cart_item");
+        Assert.assertSame(LocatorCompiler.compile(css), css);
+    }
+}
@@ -0,0 +1,51 @@
+package com.swaglabs.core.pages;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Price text parsing and ordering of PriceList; needs no browser
+ */
+public class PriceListTest {
+
+    @Test
+    public void parsesAmountsAfterTheCurrencySymbol() {
+        PriceList prices = PriceList.parse(Arrays.asList("$7.99", "Item total: $1,234.50", "$ 29.99"));
+        Assert.assertEquals(prices.getCurrency(), "$");
+        Assert.assertEquals(prices.toArray(), new double[] {7.99, 1234.5, 29.99});
+        Assert.assertEquals(prices.total(), new BigDecimal("1272.48"));
+        Assert.assertTrue(prices.isSortedAscending(2));
+        Assert.assertFalse(prices.isSortedAscending());
+    }
+
+    @Test
+    public void ignoresDigitsInLabels() {
+        Assert.assertEquals(PriceList.parsePrice("Sauce Labs 2 Pack: $15.99"), 15.99);
+        Assert.assertEquals(PriceList.parsePrice("Item 2 total: 29.99"), 29.99);
+        Assert.assertEquals(PriceList.parse(Collections.singletonList("Tax: 2.40")).getCurrency(), "");
+    }
+
+    @Test
+    public void rejectsMixedCurrencies() {
+        assertRejected(Arrays.asList("$9.99", "€9.99"), "Mixed currencies");
+        assertRejected(Arrays.asList("9.99", "$9.99"), "Mixed currencies");
+        assertRejected(Arrays.asList("$9.99", "9.99"), "Mixed currencies");
+    }
+
+    @Test
+    public void rejectsTextsWithoutAnAmount() {
+        assertRejected(Arrays.asList("$9.99", "  "), "'  '");
+        assertRejected(Collections.singletonList("Free"), "'Free'");
+        assertRejected(Collections.singletonList(null), "'null'");
+    }
+
+    private static void assertRejected(List<String> texts, String expectedMessagePart) {
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class, () -> PriceList.parse(texts));
+        Assert.assertTrue(e.getMessage().contains(expectedMessagePart), e.getMessage());
+    }
+}
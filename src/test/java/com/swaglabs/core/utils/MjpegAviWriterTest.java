@@ -0,0 +1,94 @@
+package com.swaglabs.core.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * RIFF layout written by MjpegAviWriter: chunk sizes, frame count, odd-length padding and the idx1 index
+ */
+public class MjpegAviWriterTest {
+
+    // RIFF header (12) + hdrl LIST (8 + 192); the movi LIST follows
+    private static final int MOVI_LIST = 212;
+
+    private final byte[] oddFrame = {1, 2, 3};
+    private final byte[] evenFrame = {4, 5, 6, 7};
+
+    @Test
+    public void writesConsistentRiffSizes() {
+        ByteBuffer avi = write();
+        Assert.assertEquals(fourCc(avi, 0), "RIFF");
+        Assert.assertEquals(avi.getInt(4), avi.capacity() - 8);
+        Assert.assertEquals(fourCc(avi, 8), "AVI ");
+        Assert.assertEquals(fourCc(avi, 12), "LIST");
+        Assert.assertEquals(fourCc(avi, 20), "hdrl");
+        Assert.assertEquals(MOVI_LIST, 12 + 8 + avi.getInt(16));
+
+        Assert.assertEquals(fourCc(avi, MOVI_LIST), "LIST");
+        Assert.assertEquals(fourCc(avi, MOVI_LIST + 8), "movi");
+        int index = MOVI_LIST + 8 + avi.getInt(MOVI_LIST + 4);
+        Assert.assertEquals(fourCc(avi, index), "idx1");
+        Assert.assertEquals(avi.getInt(index + 4), 16 * 3);
+        Assert.assertEquals(index + 8 + 16 * 3, avi.capacity());
+    }
+
+    @Test
+    public void recordsFrameRateAndCountInTheHeaders() {
+        ByteBuffer avi = write();
+        Assert.assertEquals(fourCc(avi, 24), "avih");
+        Assert.assertEquals(avi.getInt(32), 1_000_000 / 5);
+        Assert.assertEquals(avi.getInt(48), 3);
+        Assert.assertEquals(avi.getInt(64), 320);
+        Assert.assertEquals(avi.getInt(68), 200);
+        Assert.assertEquals(fourCc(avi, 108), "vids");
+        Assert.assertEquals(fourCc(avi, 112), "MJPG");
+        Assert.assertEquals(avi.getInt(132), 5);
+        Assert.assertEquals(avi.getInt(140), 3);
+    }
+
+    @Test
+    public void padsOddFramesAndIndexesRepeatedFramesAsEmptyChunks() {
+        ByteBuffer avi = write();
+        int chunk = MOVI_LIST + 12;
+        int[] expectedLengths = {3, 0, 4};
+        int[] expectedOffsets = new int[3];
+        for (int i = 0; i < expectedLengths.length; i++) {
+            Assert.assertEquals(fourCc(avi, chunk), "00dc");
+            Assert.assertEquals(avi.getInt(chunk + 4), expectedLengths[i]);
+            expectedOffsets[i] = chunk - (MOVI_LIST + 8);
+            chunk += 8 + expectedLengths[i] + (expectedLengths[i] & 1);
+        }
+        Assert.assertEquals(avi.get(MOVI_LIST + 12 + 8 + 3), 0);
+
+        int entry = chunk + 8;
+        for (int i = 0; i < expectedLengths.length; i++, entry += 16) {
+            Assert.assertEquals(fourCc(avi, entry), "00dc");
+            Assert.assertEquals(avi.getInt(entry + 4), expectedLengths[i] == 0 ? 0 : 0x10, "keyframe flag of frame " + i);
+            Assert.assertEquals(avi.getInt(entry + 8), expectedOffsets[i]);
+            Assert.assertEquals(avi.getInt(entry + 12), expectedLengths[i]);
+        }
+    }
+
+    @Test
+    public void requiresAFirstFrame() {
+        Assert.expectThrows(IllegalArgumentException.class,
+                () -> MjpegAviWriter.write(Collections.emptyList(), 5, 320, 200));
+        Assert.expectThrows(IllegalArgumentException.class,
+                () -> MjpegAviWriter.write(Arrays.asList(null, oddFrame), 5, 320, 200));
+    }
+
+    private ByteBuffer write() {
+        byte[] avi = MjpegAviWriter.write(Arrays.asList(oddFrame, null, evenFrame), 5, 320, 200);
+        return ByteBuffer.wrap(avi).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static String fourCc(ByteBuffer avi, int offset) {
+        return new String(avi.array(), offset, 4, StandardCharsets.US_ASCII);
+    }
+}
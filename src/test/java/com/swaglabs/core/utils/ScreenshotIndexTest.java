@@ -0,0 +1,113 @@
+package com.swaglabs.core.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Retention and manifest replay of ScreenshotIndex over a temporary screenshot directory
+ */
+public class ScreenshotIndexTest {
+
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("screenshot-index").toAbsolutePath().normalize();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    public void removesOnlyScreenshotsOlderThanTheCutoff() throws IOException {
+        long now = System.currentTimeMillis();
+        ScreenshotIndex index = ScreenshotIndex.open(directory);
+        Path old = screenshot("old.png", 100, now - 2 * 3_600_000);
+        Path recent = screenshot("recent.png", 50, now - 3_600_000);
+        index.record(old, "LoginTest.old");
+        index.record(recent, "LoginTest.recent");
+
+        Assert.assertEquals(index.removeOlderThan(now - 90 * 60_000), 1);
+        Assert.assertFalse(Files.exists(old));
+        Assert.assertTrue(Files.exists(recent));
+        Assert.assertEquals(index.count(), 1);
+        Assert.assertEquals(index.totalBytes(), 50);
+    }
+
+    @Test
+    public void trimsLeastRecentlyUsedScreenshotsFirst() throws IOException {
+        long now = System.currentTimeMillis();
+        ScreenshotIndex index = ScreenshotIndex.open(directory);
+        Path first = screenshot("first.png", 100, now);
+        Path second = screenshot("second.png", 100, now);
+        Path third = screenshot("third.png", 100, now);
+        index.record(first, "a");
+        index.record(second, "b");
+        index.record(third, "c");
+        // Reusing a screenshot makes it the most recently used one
+        index.record(first, "a");
+
+        Assert.assertEquals(index.trimToSize(150), 2);
+        Assert.assertTrue(Files.exists(first));
+        Assert.assertFalse(Files.exists(second));
+        Assert.assertFalse(Files.exists(third));
+        Assert.assertEquals(index.totalBytes(), 100);
+    }
+
+    @Test
+    public void replaysTheManifestWithoutScanningTheDirectory() throws IOException {
+        long now = System.currentTimeMillis();
+        Path kept = screenshot("kept.png", 40, now);
+        Files.write(directory.resolve(ScreenshotIndex.MANIFEST_NAME), Arrays.asList(
+                "#reconciled\t" + now,
+                "+\tkept.png\t40\t" + now + "\tCartTest.add",
+                "+\tremoved.png\t70\t" + now + "\tCartTest.remove",
+                "-\tremoved.png",
+                "+\tnot-on-disk.png\t25\t" + now + "\tCartTest.checkout"), StandardCharsets.UTF_8);
+
+        ScreenshotIndex index = ScreenshotIndex.open(directory);
+        Assert.assertEquals(index.count(), 2);
+        Assert.assertEquals(index.totalBytes(), 65);
+
+        // Reconciliation drops the entry whose file is gone and keeps the rest
+        index.reconcile();
+        Assert.assertEquals(index.count(), 1);
+        Assert.assertEquals(index.totalBytes(), Files.size(kept));
+    }
+
+    @Test
+    public void reopensToTheStateLeftByEarlierRuns() throws IOException {
+        long now = System.currentTimeMillis();
+        ScreenshotIndex index = ScreenshotIndex.open(directory);
+        Path first = screenshot("first.png", 100, now);
+        Path second = screenshot("second.png", 30, now);
+        index.record(first, "a");
+        index.record(second, "b");
+        index.trimToSize(50);
+
+        ScreenshotIndex reopened = ScreenshotIndex.open(directory);
+        Assert.assertEquals(reopened.count(), 1);
+        Assert.assertEquals(reopened.totalBytes(), 30);
+    }
+
+    private Path screenshot(String name, int size, long modifiedMillis) throws IOException {
+        Path file = Files.write(directory.resolve(name), new byte[size]);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedMillis));
+        return file;
+    }
+}
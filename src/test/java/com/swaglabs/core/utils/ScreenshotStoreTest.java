@@ -0,0 +1,98 @@
+package com.swaglabs.core.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Content hashing and deduplication of ScreenshotStore; stored images go to the environment's screenshot directory
+ */
+public class ScreenshotStoreTest {
+
+    @Test
+    public void hashesPngPixelsAndIgnoresMetadataChunks() throws IOException {
+        byte[] png = png(0x336699);
+        byte[] withText = withTextChunk(png, "Software", "test");
+
+        Assert.assertNotEquals(withText, png);
+        Assert.assertEquals(ScreenshotStore.contentHash(withText), ScreenshotStore.contentHash(png));
+        Assert.assertNotEquals(ScreenshotStore.contentHash(png(0x996633)), ScreenshotStore.contentHash(png));
+        Assert.assertEquals(ScreenshotStore.contentHash(png).length(), 64);
+    }
+
+    @Test
+    public void hashesOtherFormatsByTheirBytes() {
+        byte[] jpeg = {(byte) 0xff, (byte) 0xd8, 1, 2, 3};
+        Assert.assertEquals(ScreenshotStore.contentHash(jpeg), ScreenshotStore.contentHash(jpeg.clone()));
+        Assert.assertNotEquals(ScreenshotStore.contentHash(jpeg),
+                ScreenshotStore.contentHash(new byte[] {(byte) 0xff, (byte) 0xd8, 1, 2, 4}));
+    }
+
+    @Test
+    public void onlyTheFirstCaptureClaimsAnAttachmentSource() {
+        String source = ScreenshotStore.attachmentSource(UUID.randomUUID().toString(), "png");
+        long duplicates = ScreenshotStore.getDuplicateCount();
+
+        Assert.assertTrue(ScreenshotStore.claimAttachment(source, 100));
+        Assert.assertFalse(ScreenshotStore.claimAttachment(source, 100));
+        Assert.assertFalse(ScreenshotStore.claimPlaceholder(source));
+        Assert.assertEquals(ScreenshotStore.getDuplicateCount(), duplicates + 1);
+    }
+
+    @Test
+    public void storesIdenticalContentOnce() throws IOException {
+        byte[] image = UUID.randomUUID().toString().getBytes(StandardCharsets.US_ASCII);
+        String hash = ScreenshotStore.contentHash(image);
+        long duplicates = ScreenshotStore.getDuplicateCount();
+
+        Path first = ScreenshotStore.store(hash, image, "bin");
+        try {
+            Path second = ScreenshotStore.store(hash, image.clone(), "bin");
+            Assert.assertEquals(second, first);
+            Assert.assertEquals(first.getFileName().toString(), hash + ".bin");
+            Assert.assertEquals(Files.readAllBytes(first), image);
+            Assert.assertEquals(ScreenshotStore.getDuplicateCount(), duplicates + 1);
+        } finally {
+            Files.deleteIfExists(first);
+        }
+    }
+
+    private static byte[] png(int rgb) throws IOException {
+        BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 4; y++) {
+            for (int x = 0; x < 4; x++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    // Inserts a tEXt chunk after IHDR, as browsers and encoders do for metadata
+    private static byte[] withTextChunk(byte[] png, String keyword, String text) {
+        int afterHeader = 8 + 12 + ByteBuffer.wrap(png, 8, 4).getInt();
+        byte[] data = (keyword + "\0" + text).getBytes(StandardCharsets.ISO_8859_1);
+        ByteBuffer chunk = ByteBuffer.allocate(12 + data.length);
+        chunk.putInt(data.length).put("tEXt".getBytes(StandardCharsets.US_ASCII)).put(data);
+        CRC32 crc = new CRC32();
+        crc.update(chunk.array(), 4, 4 + data.length);
+        chunk.putInt((int) crc.getValue());
+
+        byte[] result = Arrays.copyOf(png, png.length + chunk.capacity());
+        System.arraycopy(chunk.array(), 0, result, afterHeader, chunk.capacity());
+        System.arraycopy(png, afterHeader, result, afterHeader + chunk.capacity(), png.length - afterHeader);
+        return result;
+    }
+}
@@ -0,0 +1,39 @@
+package com.swaglabs.core.wait;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Exception classification of RetryPolicy; needs no browser
+ */
+public class RetryPolicyTest {
+
+    private final RetryPolicy policy = new RetryPolicy(3, 10, 100, Arrays.asList(
+            StaleElementReferenceException.class, NoSuchElementException.class));
+
+    @Test
+    public void retriesTransientElementFailures() {
+        Assert.assertTrue(policy.isRetryable(new StaleElementReferenceException("stale")));
+        Assert.assertTrue(policy.isRetryable(new RuntimeException(new NoSuchElementException("missing"))));
+    }
+
+    @Test
+    public void doesNotRetryExplicitWaitTimeouts() {
+        TimeoutException timeout = new TimeoutException("Expected condition failed", new NoSuchElementException("missing"));
+        Assert.assertFalse(policy.isRetryable(timeout));
+        Assert.assertFalse(policy.isRetryable(new RuntimeException(timeout)));
+    }
+
+    @Test
+    public void retryOnReplacesTheRetriedTypes() {
+        RetryPolicy staleOnly = policy.retryOn(Collections.singletonList(StaleElementReferenceException.class));
+        Assert.assertTrue(staleOnly.isRetryable(new StaleElementReferenceException("stale")));
+        Assert.assertFalse(staleOnly.isRetryable(new NoSuchElementException("missing")));
+    }
+}
@@ -1,17 +1,17 @@
-package com.swaglabs.test;
-
-public class Constants {
-	public static final String CONFIG_BASE_PATH = "src/test/resources/config/";
-	public static final String TEST_DATA_FILE = "testdata.properties";
-	public static final String EXPECTED_ASSERTIONS_FILE = "expectedassertions.properties";
-	//TEST DATA FOR INPUT 
-	public static final String FILTER_OPTION_LOW_TO_HIGH = "filter.option.low.to.high";
-	public static final String INPUT_FIRST_NAME = "input.first.name";
-	public static final String INPUT_LAST_NAME = "input.last.name";
-	public static final String INPUT_PINCODE = "input.pincode";
-	
-	//EXPECTED ASSERTIONS 
-	public static final String HEADER_CART_PAGE = "header.cart.page";
-	public static final String HEADER_ORDER_CONFIRMATION = "header.order.confirmation";
-
-}
+package com.swaglabs.test;
+
+public class Constants {
+	public static final String CONFIG_BASE_PATH = "src/test/resources/config/";
+	public static final String TEST_DATA_FILE = "testdata.properties";
+	public static final String EXPECTED_ASSERTIONS_FILE = "expectedassertions.properties";
+	//TEST DATA FOR INPUT 
+	public static final String FILTER_OPTION_LOW_TO_HIGH = "filter.option.low.to.high";
+	public static final String INPUT_FIRST_NAME = "input.first.name";
+	public static final String INPUT_LAST_NAME = "input.last.name";
+	public static final String INPUT_PINCODE = "input.pincode";
+	
+	//EXPECTED ASSERTIONS 
+	public static final String HEADER_CART_PAGE = "header.cart.page";
+	public static final String HEADER_ORDER_CONFIRMATION = "header.order.confirmation";
+
+}
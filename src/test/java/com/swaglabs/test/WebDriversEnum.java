@@ -1,5 +1,5 @@
-package com.swaglabs.test;
-
-public enum WebDriversEnum {
-	PURCHASE_PRODUCT_TEST
-}
+package com.swaglabs.test;
+
+public enum WebDriversEnum {
+	PURCHASE_PRODUCT_TEST
+}